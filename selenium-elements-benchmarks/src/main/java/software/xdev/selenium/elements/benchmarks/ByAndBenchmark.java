@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import software.xdev.selenium.elements.ByAnd;
+
+
+/**
+ * Measures {@link ByAnd#findElements} against a {@link FakeSearchContext} that simulates round trips, with and
+ * without combining the CSS expressible locators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ByAndBenchmark
+{
+	@Param({"false", "true"})
+	private boolean combineCssSelectors;
+	
+	@Param({"10", "100"})
+	private int elementCount;
+	
+	@Param({"1000"})
+	private long roundTripTokens;
+	
+	private FakeSearchContext searchContext;
+	private ByAnd byAnd;
+	
+	@Setup
+	public void setup()
+	{
+		this.searchContext = new FakeSearchContext(this.elementCount, this.roundTripTokens);
+		this.byAnd = new ByAnd(
+			this.combineCssSelectors,
+			By.tagName("input"),
+			By.className("cls"),
+			By.name("n"));
+	}
+	
+	@Benchmark
+	public List<WebElement> findElements()
+	{
+		return this.byAnd.findElements(this.searchContext);
+	}
+}
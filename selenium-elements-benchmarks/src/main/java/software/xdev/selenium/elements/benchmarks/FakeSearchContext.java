@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+
+/**
+ * In-memory {@link SearchContext} that simulates the cost of a round trip to the browser for each lookup.
+ * <p>
+ * Each lookup returns the same elements, regardless of the locator.
+ * </p>
+ */
+public class FakeSearchContext implements SearchContext
+{
+	private final List<WebElement> elements;
+	private final long roundTripTokens;
+	private final AtomicLong lookups = new AtomicLong();
+	
+	/**
+	 * @param elementCount    how many elements are returned by each lookup
+	 * @param roundTripTokens simulated cost of a lookup (see {@link Blackhole#consumeCPU(long)})
+	 */
+	public FakeSearchContext(final int elementCount, final long roundTripTokens)
+	{
+		this.elements = IntStream.range(0, elementCount)
+			.mapToObj(i -> {
+				final RemoteWebElement element = new RemoteWebElement();
+				element.setId("element-" + i);
+				return (WebElement)element;
+			})
+			.toList();
+		this.roundTripTokens = roundTripTokens;
+	}
+	
+	@Override
+	public List<WebElement> findElements(final By by)
+	{
+		this.lookups.incrementAndGet();
+		Blackhole.consumeCPU(this.roundTripTokens);
+		return this.elements;
+	}
+	
+	@Override
+	public WebElement findElement(final By by)
+	{
+		final List<WebElement> found = this.findElements(by);
+		if(found.isEmpty())
+		{
+			throw new NoSuchElementException("Cannot locate an element using " + by);
+		}
+		return found.get(0);
+	}
+	
+	public long lookups()
+	{
+		return this.lookups.get();
+	}
+}
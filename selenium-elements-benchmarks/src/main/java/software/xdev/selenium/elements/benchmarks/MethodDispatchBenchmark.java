@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.annotation.FindBySelector;
+import software.xdev.selenium.elements.instantiator.DefaultElementInstantiator;
+import software.xdev.selenium.elements.instantiator.DelegatingElementInstantiator;
+import software.xdev.selenium.elements.instantiator.ElementInstantiator;
+
+
+/**
+ * Measures the overhead of calling methods on created elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MethodDispatchBenchmark
+{
+	@Param({"default", "delegating"})
+	private String instantiator;
+	
+	private ExampleElement element;
+	
+	@Setup
+	public void setup()
+	{
+		final ElementInstantiator elementInstantiator = "delegating".equals(this.instantiator)
+			? new DelegatingElementInstantiator()
+			: new DefaultElementInstantiator();
+		this.element = elementInstantiator.proxyWebElement(ExampleElement.class, new RemoteWebElement()
+		{
+			@Override
+			public String getTagName()
+			{
+				return "div";
+			}
+		});
+	}
+	
+	@Benchmark
+	public String abstractMethod()
+	{
+		return this.element.getTagName();
+	}
+	
+	@Benchmark
+	public String implementedMethod()
+	{
+		return this.element.tagNameUpperCase();
+	}
+	
+	@FindBySelector(tagName = "div")
+	public abstract static class ExampleElement implements ImprovedWebElement
+	{
+		public String tagNameUpperCase()
+		{
+			return this.getTagName().toUpperCase();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.annotation.FindBySelector;
+import software.xdev.selenium.elements.instantiator.DefaultElementInstantiator;
+
+
+/**
+ * Compares creating element proxies with a cold (new instantiator) and a warm (reused instantiator) proxy cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProxyWebElementBenchmark
+{
+	private final WebElement webElement = new RemoteWebElement();
+	private DefaultElementInstantiator warmInstantiator;
+	
+	@Setup
+	public void setup()
+	{
+		this.warmInstantiator = new DefaultElementInstantiator();
+		this.warmInstantiator.proxyWebElement(ExampleElement.class, this.webElement);
+	}
+	
+	@Benchmark
+	public ExampleElement cold()
+	{
+		return new DefaultElementInstantiator().proxyWebElement(ExampleElement.class, this.webElement);
+	}
+	
+	@Benchmark
+	public ExampleElement warm()
+	{
+		return this.warmInstantiator.proxyWebElement(ExampleElement.class, this.webElement);
+	}
+	
+	@FindBySelector(tagName = "div")
+	public abstract static class ExampleElement implements ImprovedWebElement
+	{
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.annotation.FindBySelector;
+import software.xdev.selenium.elements.instantiator.DefaultElementInstantiator;
+
+
+/**
+ * Compares building selectors from {@link FindBySelector} directly with the cached selectors of the instantiator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SelectorBenchmark
+{
+	private final DefaultElementInstantiator instantiator = new DefaultElementInstantiator();
+	private final FindBySelector.Builder builder = new FindBySelector.Builder();
+	private final FindBySelector simpleAnnotation = SimpleElement.class.getAnnotation(FindBySelector.class);
+	private final FindBySelector complexAnnotation = ComplexElement.class.getAnnotation(FindBySelector.class);
+	
+	@Benchmark
+	public By buildSimple()
+	{
+		return this.builder.build(this.simpleAnnotation);
+	}
+	
+	@Benchmark
+	public By buildComplex()
+	{
+		return this.builder.build(this.complexAnnotation);
+	}
+	
+	@Benchmark
+	public By buildSelectorSimple()
+	{
+		return this.instantiator.buildSelector(SimpleElement.class);
+	}
+	
+	@Benchmark
+	public By buildSelectorComplex()
+	{
+		return this.instantiator.buildSelector(ComplexElement.class);
+	}
+	
+	@FindBySelector(tagName = "div")
+	public abstract static class SimpleElement implements ImprovedWebElement
+	{
+	}
+	
+	@FindBySelector(tagName = "input", id = "abc", classNamePart = "cls", name = "n")
+	public abstract static class ComplexElement implements ImprovedWebElement
+	{
+	}
+}
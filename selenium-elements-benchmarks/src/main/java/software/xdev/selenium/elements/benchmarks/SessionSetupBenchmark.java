@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.JsonToWebElementConverter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.remote.Response;
+
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebDriver;
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebElementInstaller;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+/**
+ * Measures the setup overhead per session (the session itself is created by an in-memory executor) for the
+ * different ways of installing a custom {@link RemoteWebElement} supplier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SessionSetupBenchmark
+{
+	private final Capabilities capabilities = new ImmutableCapabilities("browserName", "fake");
+	private final CommandExecutor executor = command -> {
+		final Response response = new Response();
+		response.setSessionId("session");
+		response.setState("success");
+		response.setValue(Map.of("browserName", "fake"));
+		return response;
+	};
+	private final Supplier<RemoteWebElement> supplier =
+		() -> new ImprovedRemoteWebElement("return document.readyState == 'complete';");
+	
+	@Benchmark
+	public RemoteWebDriver withoutInstallation()
+	{
+		return new RemoteWebDriver(this.executor, this.capabilities);
+	}
+	
+	/**
+	 * The previous implementation: Resolves the method using reflection on each installation.
+	 */
+	@Benchmark
+	public RemoteWebDriver reflectiveInstallation() throws ReflectiveOperationException
+	{
+		final RemoteWebDriver driver = new RemoteWebDriver(this.executor, this.capabilities);
+		final Method mSetElementConverter =
+			RemoteWebDriver.class.getDeclaredMethod("setElementConverter", JsonToWebElementConverter.class);
+		mSetElementConverter.setAccessible(true);
+		try
+		{
+			mSetElementConverter.invoke(
+				driver,
+				new CustomizableRemoteWebElementInstaller.CustomizableJsonToWebElementConverter(
+					driver,
+					this.supplier));
+		}
+		catch(final InvocationTargetException e)
+		{
+			throw new IllegalStateException(e);
+		}
+		return driver;
+	}
+	
+	@Benchmark
+	public RemoteWebDriver installer()
+	{
+		final RemoteWebDriver driver = new RemoteWebDriver(this.executor, this.capabilities);
+		CustomizableRemoteWebElementInstaller.install(driver, this.supplier);
+		return driver;
+	}
+	
+	@Benchmark
+	public RemoteWebDriver customizableRemoteWebDriver()
+	{
+		return new CustomizableRemoteWebDriver(this.executor, this.capabilities, this.supplier);
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Minimal CSS selector implementation for {@link FakeElement FakeElements}.
+ * <p>
+ * Supports selector lists (<code>,</code>), descendant (whitespace) and child (<code>&gt;</code>) combinators, type
+ * selectors (including <code>*</code>), id, class and attribute (<code>[a]</code>, <code>[a='v']</code>)
+ * selectors as well as escaped characters. Pseudo classes are not supported.
+ * </p>
+ */
+final class FakeCssSelector
+{
+	private static final int MAX_HEX_ESCAPE_LENGTH = 6;
+	private static final int HEX_RADIX = 16;
+	
+	private final List<List<Compound>> alternatives;
+	
+	private FakeCssSelector(final List<List<Compound>> alternatives)
+	{
+		this.alternatives = alternatives;
+	}
+	
+	/**
+	 * @throws IllegalArgumentException if the selector is invalid or unsupported
+	 */
+	static FakeCssSelector parse(final String selector)
+	{
+		return new Parser(selector).parse();
+	}
+	
+	boolean matches(final FakeElement element)
+	{
+		for(final List<Compound> complex : this.alternatives)
+		{
+			if(matches(element, complex, complex.size() - 1))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static boolean matches(final FakeElement element, final List<Compound> complex, final int index)
+	{
+		final Compound compound = complex.get(index);
+		if(!compound.matches(element))
+		{
+			return false;
+		}
+		if(index == 0)
+		{
+			return true;
+		}
+		
+		FakeElement ancestor = element.parent();
+		if(compound.childOfPrevious())
+		{
+			return ancestor != null && matches(ancestor, complex, index - 1);
+		}
+		while(ancestor != null)
+		{
+			if(matches(ancestor, complex, index - 1))
+			{
+				return true;
+			}
+			ancestor = ancestor.parent();
+		}
+		return false;
+	}
+	
+	record Compound(
+		String tagName,
+		List<String> ids,
+		List<String> classNames,
+		List<String[]> attributes,
+		boolean childOfPrevious)
+	{
+		boolean matches(final FakeElement element)
+		{
+			if(this.tagName != null && !this.tagName.equals(element.tagName()))
+			{
+				return false;
+			}
+			for(final String id : this.ids)
+			{
+				if(!id.equals(element.attribute("id")))
+				{
+					return false;
+				}
+			}
+			if(!element.classNames().containsAll(this.classNames))
+			{
+				return false;
+			}
+			for(final String[] attribute : this.attributes)
+			{
+				final String value = element.attribute(attribute[0]);
+				if(value == null || attribute[1] != null && !attribute[1].equals(value))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+	private static final class Parser
+	{
+		private final String input;
+		private int pos;
+		
+		Parser(final String input)
+		{
+			this.input = input;
+		}
+		
+		FakeCssSelector parse()
+		{
+			final List<List<Compound>> alternatives = new ArrayList<>();
+			do
+			{
+				alternatives.add(this.parseComplex());
+			}
+			while(this.consume(','));
+			
+			this.skipWhitespace();
+			if(this.pos < this.input.length())
+			{
+				throw this.error("Unexpected character");
+			}
+			return new FakeCssSelector(alternatives);
+		}
+		
+		private List<Compound> parseComplex()
+		{
+			final List<Compound> complex = new ArrayList<>();
+			boolean childOfPrevious = false;
+			while(true)
+			{
+				this.skipWhitespace();
+				complex.add(this.parseCompound(childOfPrevious));
+				
+				final boolean whitespace = this.skipWhitespace();
+				if(this.consume('>'))
+				{
+					childOfPrevious = true;
+				}
+				else if(whitespace && this.pos < this.input.length() && this.peek() != ',')
+				{
+					childOfPrevious = false;
+				}
+				else
+				{
+					return complex;
+				}
+			}
+		}
+		
+		private Compound parseCompound(final boolean childOfPrevious)
+		{
+			String tagName = null;
+			final List<String> ids = new ArrayList<>();
+			final List<String> classNames = new ArrayList<>();
+			final List<String[]> attributes = new ArrayList<>();
+			
+			boolean any = false;
+			if(this.consume('*'))
+			{
+				any = true;
+			}
+			else if(this.pos < this.input.length() && this.isIdentifierChar(this.peek()))
+			{
+				tagName = this.parseIdentifier().toLowerCase();
+				any = true;
+			}
+			
+			while(this.pos < this.input.length())
+			{
+				final char c = this.peek();
+				if(c == '#')
+				{
+					this.pos++;
+					ids.add(this.parseIdentifier());
+				}
+				else if(c == '.')
+				{
+					this.pos++;
+					classNames.add(this.parseIdentifier());
+				}
+				else if(c == '[')
+				{
+					this.pos++;
+					attributes.add(this.parseAttribute());
+				}
+				else if(c == ':')
+				{
+					throw this.error("Pseudo classes are not supported");
+				}
+				else
+				{
+					break;
+				}
+				any = true;
+			}
+			
+			if(!any)
+			{
+				throw this.error("Expected a selector");
+			}
+			return new Compound(tagName, ids, classNames, attributes, childOfPrevious);
+		}
+		
+		private String[] parseAttribute()
+		{
+			this.skipWhitespace();
+			final String name = this.parseIdentifier();
+			this.skipWhitespace();
+			String value = null;
+			if(this.consume('='))
+			{
+				this.skipWhitespace();
+				value = this.peek() == '\'' || this.peek() == '"'
+					? this.parseString()
+					: this.parseIdentifier();
+				this.skipWhitespace();
+			}
+			if(!this.consume(']'))
+			{
+				throw this.error("Expected ]");
+			}
+			return new String[]{name, value};
+		}
+		
+		private String parseString()
+		{
+			final char quote = this.input.charAt(this.pos++);
+			final StringBuilder sb = new StringBuilder();
+			while(this.pos < this.input.length() && this.peek() != quote)
+			{
+				if(this.peek() == '\\')
+				{
+					this.parseEscape(sb);
+				}
+				else
+				{
+					sb.append(this.input.charAt(this.pos++));
+				}
+			}
+			if(!this.consume(quote))
+			{
+				throw this.error("Unterminated string");
+			}
+			return sb.toString();
+		}
+		
+		private String parseIdentifier()
+		{
+			final StringBuilder sb = new StringBuilder();
+			while(this.pos < this.input.length())
+			{
+				final char c = this.peek();
+				if(c == '\\')
+				{
+					this.parseEscape(sb);
+				}
+				else if(this.isIdentifierChar(c))
+				{
+					sb.append(c);
+					this.pos++;
+				}
+				else
+				{
+					break;
+				}
+			}
+			if(sb.isEmpty())
+			{
+				throw this.error("Expected an identifier");
+			}
+			return sb.toString();
+		}
+		
+		private void parseEscape(final StringBuilder sb)
+		{
+			this.pos++; // backslash
+			if(this.pos >= this.input.length())
+			{
+				throw this.error("Invalid escape");
+			}
+			
+			final int start = this.pos;
+			while(this.pos < this.input.length()
+				&& this.pos - start < MAX_HEX_ESCAPE_LENGTH
+				&& Character.digit(this.peek(), HEX_RADIX) >= 0)
+			{
+				this.pos++;
+			}
+			if(this.pos > start)
+			{
+				sb.appendCodePoint(Integer.parseInt(this.input.substring(start, this.pos), HEX_RADIX));
+				// A single whitespace terminates the hex escape
+				if(this.pos < this.input.length() && this.peek() == ' ')
+				{
+					this.pos++;
+				}
+				return;
+			}
+			sb.append(this.input.charAt(this.pos++));
+		}
+		
+		private boolean isIdentifierChar(final char c)
+		{
+			return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c > '\u007f';
+		}
+		
+		private boolean skipWhitespace()
+		{
+			final int start = this.pos;
+			while(this.pos < this.input.length() && Character.isWhitespace(this.peek()))
+			{
+				this.pos++;
+			}
+			return this.pos > start;
+		}
+		
+		private boolean consume(final char c)
+		{
+			this.skipWhitespace();
+			if(this.pos < this.input.length() && this.peek() == c)
+			{
+				this.pos++;
+				return true;
+			}
+			return false;
+		}
+		
+		private char peek()
+		{
+			return this.input.charAt(this.pos);
+		}
+		
+		private IllegalArgumentException error(final String message)
+		{
+			return new IllegalArgumentException(message + " at " + this.pos + " in '" + this.input + "'");
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * Element of the simplified in-memory DOM of {@link FakeWebDriverServer}.
+ * <p>
+ * Modifications should only be done while building the page or from a click listener (which is executed while the
+ * session is locked).
+ * </p>
+ */
+public class FakeElement
+{
+	private final String tagName;
+	private final Map<String, String> attributes = new LinkedHashMap<>();
+	private final List<FakeElement> children = new ArrayList<>();
+	private FakeElement parent;
+	private String text = "";
+	private Consumer<FakeElement> clickListener;
+	private int clicks;
+	
+	public FakeElement(final String tagName)
+	{
+		this.tagName = tagName.toLowerCase();
+	}
+	
+	public static FakeElement of(final String tagName)
+	{
+		return new FakeElement(tagName);
+	}
+	
+	public FakeElement id(final String id)
+	{
+		return this.attribute("id", id);
+	}
+	
+	public FakeElement classes(final String... classNames)
+	{
+		return this.attribute("class", String.join(" ", classNames));
+	}
+	
+	public FakeElement attribute(final String name, final String value)
+	{
+		if(value == null)
+		{
+			this.attributes.remove(name);
+		}
+		else
+		{
+			this.attributes.put(name, value);
+		}
+		return this;
+	}
+	
+	public FakeElement text(final String text)
+	{
+		this.text = text;
+		return this;
+	}
+	
+	public FakeElement children(final FakeElement... children)
+	{
+		for(final FakeElement child : children)
+		{
+			if(child.parent != null)
+			{
+				child.parent.children.remove(child);
+			}
+			child.parent = this;
+			this.children.add(child);
+		}
+		return this;
+	}
+	
+	public FakeElement remove()
+	{
+		if(this.parent != null)
+		{
+			this.parent.children.remove(this);
+			this.parent = null;
+		}
+		return this;
+	}
+	
+	/**
+	 * Called (with this element) when the element is clicked, e.g. to modify the DOM.
+	 */
+	public FakeElement onClick(final Consumer<FakeElement> clickListener)
+	{
+		this.clickListener = clickListener;
+		return this;
+	}
+	
+	void click()
+	{
+		this.clicks++;
+		if(this.clickListener != null)
+		{
+			this.clickListener.accept(this);
+		}
+	}
+	
+	public String tagName()
+	{
+		return this.tagName;
+	}
+	
+	public String attribute(final String name)
+	{
+		return this.attributes.get(name);
+	}
+	
+	public List<String> classNames()
+	{
+		final String classNames = this.attributes.get("class");
+		return classNames == null || classNames.isBlank()
+			? List.of()
+			: Arrays.asList(classNames.trim().split("\\s+"));
+	}
+	
+	/**
+	 * @return the text of this element and all its descendants (separated by a space)
+	 */
+	public String visibleText()
+	{
+		return Stream.concat(
+				Stream.of(this.text),
+				this.children.stream().map(FakeElement::visibleText))
+			.filter(s -> !s.isEmpty())
+			.collect(Collectors.joining(" "));
+	}
+	
+	public FakeElement parent()
+	{
+		return this.parent;
+	}
+	
+	public List<FakeElement> children()
+	{
+		return Collections.unmodifiableList(this.children);
+	}
+	
+	public int clicks()
+	{
+		return this.clicks;
+	}
+	
+	/**
+	 * @return all descendants in document order (excluding this element)
+	 */
+	public Stream<FakeElement> descendants()
+	{
+		return this.children.stream().flatMap(c -> Stream.concat(Stream.of(c), c.descendants()));
+	}
+	
+	public FakeElement root()
+	{
+		FakeElement current = this;
+		while(current.parent != null)
+		{
+			current = current.parent;
+		}
+		return current;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "<" + this.tagName + this.attributes.entrySet()
+			.stream()
+			.map(e -> " " + e.getKey() + "=\"" + e.getValue() + "\"")
+			.collect(Collectors.joining()) + ">";
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+
+/**
+ * State of a session of {@link FakeWebDriverServer}.
+ * <p>
+ * All access to the DOM of the session is synchronized on the session.
+ * </p>
+ */
+class FakeSession
+{
+	static final long DEFAULT_SCRIPT_TIMEOUT_MS = 30_000;
+	static final long DEFAULT_PAGE_LOAD_TIMEOUT_MS = 300_000;
+	
+	private final String id = UUID.randomUUID().toString();
+	private final Map<String, FakeElement> elementsById = new HashMap<>();
+	private final Map<FakeElement, String> idsByElement = new IdentityHashMap<>();
+	private final Map<String, Object> timeouts = new HashMap<>(Map.of(
+		"implicit", 0L,
+		"script", DEFAULT_SCRIPT_TIMEOUT_MS,
+		"pageLoad", DEFAULT_PAGE_LOAD_TIMEOUT_MS));
+	
+	private String url = "about:blank";
+	private FakeElement document;
+	
+	String id()
+	{
+		return this.id;
+	}
+	
+	synchronized String url()
+	{
+		return this.url;
+	}
+	
+	synchronized FakeElement document()
+	{
+		return this.document;
+	}
+	
+	synchronized void navigate(final String url, final FakeElement document)
+	{
+		this.url = url;
+		this.document = document;
+		// References of the previous page are stale
+		this.elementsById.clear();
+		this.idsByElement.clear();
+	}
+	
+	synchronized Map<String, Object> timeouts()
+	{
+		return new HashMap<>(this.timeouts);
+	}
+	
+	synchronized void updateTimeouts(final Map<String, Object> timeouts)
+	{
+		timeouts.forEach((key, value) -> {
+			if(value != null && this.timeouts.containsKey(key))
+			{
+				this.timeouts.put(key, value);
+			}
+		});
+	}
+	
+	synchronized Duration implicitWait()
+	{
+		return Duration.ofMillis(((Number)this.timeouts.get("implicit")).longValue());
+	}
+	
+	synchronized String reference(final FakeElement element)
+	{
+		return this.idsByElement.computeIfAbsent(element, e -> {
+			final String elementId = UUID.randomUUID().toString();
+			this.elementsById.put(elementId, e);
+			return elementId;
+		});
+	}
+	
+	synchronized FakeElement element(final String elementId)
+	{
+		final FakeElement element = this.elementsById.get(elementId);
+		if(element == null)
+		{
+			throw noSuchElement(elementId);
+		}
+		if(this.document == null || element.root() != this.document)
+		{
+			throw new FakeWebDriverException(
+				FakeWebDriverException.NOT_FOUND,
+				"stale element reference",
+				"Element " + elementId + " is no longer attached to the DOM");
+		}
+		return element;
+	}
+	
+	/**
+	 * @param searchRoot the element to search in or <code>null</code> for the whole document
+	 */
+	synchronized List<FakeElement> find(final FakeElement searchRoot, final Predicate<FakeElement> predicate)
+	{
+		if(searchRoot == null)
+		{
+			return this.document == null
+				? List.of()
+				: Stream.concat(Stream.of(this.document), this.document.descendants())
+					.filter(predicate)
+					.toList();
+		}
+		return searchRoot.descendants().filter(predicate).toList();
+	}
+	
+	private static FakeWebDriverException noSuchElement(final String elementId)
+	{
+		return FakeWebDriverException.noSuchElement("Unknown element " + elementId);
+	}
+}
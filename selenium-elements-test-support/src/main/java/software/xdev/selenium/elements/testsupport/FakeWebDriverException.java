@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+/**
+ * W3C WebDriver error that is returned to the client.
+ */
+class FakeWebDriverException extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+	
+	static final int BAD_REQUEST = 400;
+	static final int NOT_FOUND = 404;
+	static final int INTERNAL_SERVER_ERROR = 500;
+	
+	private final int status;
+	private final String error;
+	
+	FakeWebDriverException(final int status, final String error, final String message)
+	{
+		super(message);
+		this.status = status;
+		this.error = error;
+	}
+	
+	static FakeWebDriverException noSuchElement(final String message)
+	{
+		return new FakeWebDriverException(NOT_FOUND, "no such element", message);
+	}
+	
+	static FakeWebDriverException invalidArgument(final String message)
+	{
+		return new FakeWebDriverException(BAD_REQUEST, "invalid argument", message);
+	}
+	
+	int status()
+	{
+		return this.status;
+	}
+	
+	String error()
+	{
+		return this.error;
+	}
+}
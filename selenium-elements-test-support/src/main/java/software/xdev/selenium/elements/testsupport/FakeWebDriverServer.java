@@ -0,0 +1,637 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.json.Json;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+
+/**
+ * In-process stand-in for a W3C WebDriver endpoint (e.g. a Selenium Grid) that can be used with
+ * <code>RemoteWebDriver</code>.
+ * <p>
+ * Pages are simple in-memory DOMs ({@link FakeElement}) that are registered per URL. Element lookups (CSS, tag name,
+ * link text), element interactions (click, clear, send keys), element state (text, attributes, properties),
+ * navigation and timeouts (including the implicit wait) are supported. Scripts - except for the
+ * <code>getAttribute</code> and <code>isDisplayed</code> atoms of Selenium - are handled by a
+ * {@link ScriptHandler}.
+ * </p>
+ * <p>
+ * Each command can be delayed by a configurable latency and jitter to simulate the round trip to a real browser.
+ * The executed commands are counted.
+ * </p>
+ * <pre>
+ * try(FakeWebDriverServer server = new FakeWebDriverServer()
+ *     .withPage("https://example.org", () -&gt; FakeElement.of("html").children(...))
+ *     .withLatency(Duration.ofMillis(5), Duration.ofMillis(2))
+ *     .start())
+ * {
+ *     RemoteWebDriver driver = new RemoteWebDriver(
+ *         new HttpCommandExecutor(server.url()),
+ *         new ImmutableCapabilities("browserName", "fake"));
+ *     ...
+ * }
+ * </pre>
+ */
+public class FakeWebDriverServer implements AutoCloseable
+{
+	public static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+	
+	/**
+	 * Prefix of the scripts that Selenium uses for {@link org.openqa.selenium.WebElement#getAttribute(String)} and
+	 * {@link org.openqa.selenium.WebElement#isDisplayed()}. These are answered directly from the DOM.
+	 */
+	protected static final String GET_ATTRIBUTE_ATOM = "/* getAttribute */";
+	protected static final String IS_DISPLAYED_ATOM = "/* isDisplayed */";
+	
+	protected static final Duration IMPLICIT_WAIT_POLL_INTERVAL = Duration.ofMillis(10);
+	protected static final String SESSION = "/session/([^/]+)";
+	protected static final String ELEMENT = SESSION + "/element/([^/]+)";
+	
+	private static final int OK = 200;
+	
+	protected final Json json = new Json();
+	protected final List<Route> routes = new ArrayList<>();
+	protected final Map<String, Supplier<FakeElement>> pages = new ConcurrentHashMap<>();
+	protected final Map<String, FakeSession> sessions = new ConcurrentHashMap<>();
+	protected final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+	
+	protected Duration latency = Duration.ZERO;
+	protected Duration jitter = Duration.ZERO;
+	protected long seed;
+	protected final AtomicLong requestCounter = new AtomicLong();
+	protected ScriptHandler scriptHandler = ScriptHandler.alwaysTrue();
+	
+	protected HttpServer server;
+	protected ExecutorService executor;
+	
+	public FakeWebDriverServer()
+	{
+		this.registerRoutes();
+	}
+	
+	/**
+	 * Registers a page. A new DOM is created (using the supplier) each time the page is loaded.
+	 */
+	public FakeWebDriverServer withPage(final String url, final Supplier<FakeElement> documentSupplier)
+	{
+		this.pages.put(url, documentSupplier);
+		return this;
+	}
+	
+	/**
+	 * Delays each command by <code>latency ± jitter</code> (uniformly distributed).
+	 */
+	public FakeWebDriverServer withLatency(final Duration latency, final Duration jitter)
+	{
+		this.latency = latency;
+		this.jitter = jitter;
+		return this;
+	}
+	
+	/**
+	 * Seed for the jitter so that runs are reproducible.
+	 * <p>
+	 * The jitter of each request is derived from the seed and the sequence number of the request, so the requests
+	 * (that are handled by multiple threads) don't share a random number generator.
+	 * </p>
+	 */
+	public FakeWebDriverServer withSeed(final long seed)
+	{
+		this.seed = seed;
+		return this;
+	}
+	
+	public FakeWebDriverServer withScriptHandler(final ScriptHandler scriptHandler)
+	{
+		this.scriptHandler = scriptHandler;
+		return this;
+	}
+	
+	public FakeWebDriverServer start()
+	{
+		try
+		{
+			this.executor = Executors.newCachedThreadPool(r -> {
+				final Thread thread = new Thread(r, "FakeWebDriverServer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+			this.server.createContext("/", this::handle);
+			this.server.setExecutor(this.executor);
+			this.server.start();
+			return this;
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+	}
+	
+	public URL url()
+	{
+		try
+		{
+			return new URL("http://" + InetAddress.getLoopbackAddress().getHostAddress()
+				+ ":" + this.server.getAddress().getPort());
+		}
+		catch(final MalformedURLException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * @return the executed commands (e.g. <code>POST /session/{id}/element</code>) and how often they were executed
+	 */
+	public Map<String, Long> commandCounts()
+	{
+		final Map<String, Long> counts = new LinkedHashMap<>();
+		this.commandCounts.forEach((command, count) -> counts.put(command, count.sum()));
+		return counts;
+	}
+	
+	public long commandCount()
+	{
+		return this.commandCounts.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+	
+	public void resetCommandCounts()
+	{
+		this.commandCounts.clear();
+	}
+	
+	/**
+	 * @return the root element of the current page of the session, e.g. to modify it during a test
+	 */
+	public FakeElement document(final String sessionId)
+	{
+		return this.session(sessionId).document();
+	}
+	
+	public Collection<String> sessionIds()
+	{
+		return Collections.unmodifiableSet(this.sessions.keySet());
+	}
+	
+	@Override
+	public void close()
+	{
+		if(this.server != null)
+		{
+			this.server.stop(0);
+			this.executor.shutdownNow();
+		}
+	}
+	
+	@FunctionalInterface
+	protected interface Handler
+	{
+		Object handle(Matcher path, Map<String, Object> body);
+	}
+	
+	protected record Route(String method, Pattern pattern, String command, Handler handler)
+	{
+	}
+	
+	protected void route(final String method, final String path, final String command, final Handler handler)
+	{
+		this.routes.add(new Route(method, Pattern.compile(path), method + " " + command, handler));
+	}
+	
+	protected void registerRoutes()
+	{
+		this.route("GET", "/status", "/status", (p, b) -> Map.of("ready", true, "message", "ready"));
+		this.route("POST", "/session", "/session", (p, b) -> this.newSession(b));
+		this.route("DELETE", SESSION, "/session/{id}", (p, b) -> {
+			this.sessions.remove(p.group(1));
+			return null;
+		});
+		
+		this.route("GET", SESSION + "/timeouts", "/session/{id}/timeouts",
+			(p, b) -> this.session(p).timeouts());
+		this.route("POST", SESSION + "/timeouts", "/session/{id}/timeouts", (p, b) -> {
+			this.session(p).updateTimeouts(b);
+			return null;
+		});
+		
+		this.route("POST", SESSION + "/url", "/session/{id}/url", (p, b) -> {
+			this.navigate(this.session(p), (String)b.get("url"));
+			return null;
+		});
+		this.route("GET", SESSION + "/url", "/session/{id}/url", (p, b) -> this.session(p).url());
+		this.route("POST", SESSION + "/refresh", "/session/{id}/refresh", (p, b) -> {
+			final FakeSession session = this.session(p);
+			this.navigate(session, session.url());
+			return null;
+		});
+		this.route("GET", SESSION + "/title", "/session/{id}/title", (p, b) -> this.title(this.session(p)));
+		
+		this.route("GET", SESSION + "/window", "/session/{id}/window", (p, b) -> "main");
+		this.route("GET", SESSION + "/window/handles", "/session/{id}/window/handles", (p, b) -> List.of("main"));
+		
+		this.route("POST", SESSION + "/element", "/session/{id}/element",
+			(p, b) -> this.findElement(this.session(p), null, b));
+		this.route("POST", SESSION + "/elements", "/session/{id}/elements",
+			(p, b) -> this.findElements(this.session(p), null, b));
+		this.route("POST", ELEMENT + "/element", "/session/{id}/element/{id}/element",
+			(p, b) -> this.findElement(this.session(p), this.element(p), b));
+		this.route("POST", ELEMENT + "/elements", "/session/{id}/element/{id}/elements",
+			(p, b) -> this.findElements(this.session(p), this.element(p), b));
+		
+		this.route("GET", ELEMENT + "/text", "/session/{id}/element/{id}/text",
+			(p, b) -> this.element(p).visibleText());
+		this.route("GET", ELEMENT + "/name", "/session/{id}/element/{id}/name",
+			(p, b) -> this.element(p).tagName());
+		this.route("GET", ELEMENT + "/attribute/([^/]+)", "/session/{id}/element/{id}/attribute/{name}",
+			(p, b) -> this.element(p).attribute(p.group(3)));
+		this.route("GET", ELEMENT + "/property/([^/]+)", "/session/{id}/element/{id}/property/{name}",
+			(p, b) -> this.element(p).attribute(p.group(3)));
+		this.route("GET", ELEMENT + "/enabled", "/session/{id}/element/{id}/enabled",
+			(p, b) -> this.element(p).attribute("disabled") == null);
+		this.route("GET", ELEMENT + "/selected", "/session/{id}/element/{id}/selected",
+			(p, b) -> this.element(p).attribute("selected") != null
+				|| this.element(p).attribute("checked") != null);
+		
+		this.route("POST", ELEMENT + "/click", "/session/{id}/element/{id}/click", (p, b) -> {
+			final FakeSession session = this.session(p);
+			synchronized(session)
+			{
+				this.element(p).click();
+			}
+			return null;
+		});
+		this.route("POST", ELEMENT + "/clear", "/session/{id}/element/{id}/clear", (p, b) -> {
+			final FakeSession session = this.session(p);
+			synchronized(session)
+			{
+				this.element(p).attribute("value", "");
+			}
+			return null;
+		});
+		this.route("POST", ELEMENT + "/value", "/session/{id}/element/{id}/value", (p, b) -> {
+			final FakeSession session = this.session(p);
+			synchronized(session)
+			{
+				final FakeElement element = this.element(p);
+				final String value = element.attribute("value");
+				element.attribute("value", (value != null ? value : "") + b.get("text"));
+			}
+			return null;
+		});
+		
+		this.route("POST", SESSION + "/execute/sync", "/session/{id}/execute/sync",
+			(p, b) -> this.executeScript(this.session(p), b, false));
+		this.route("POST", SESSION + "/execute/async", "/session/{id}/execute/async",
+			(p, b) -> this.executeScript(this.session(p), b, true));
+	}
+	
+	@SuppressWarnings("PMD.AvoidCatchingGenericException") // Errors must be reported to the client
+	protected void handle(final HttpExchange exchange) throws IOException
+	{
+		try(exchange)
+		{
+			this.simulateLatency();
+			
+			final String method = exchange.getRequestMethod();
+			final String path = exchange.getRequestURI().getPath().replaceAll("/+$", "");
+			
+			int status = OK;
+			Object value;
+			try
+			{
+				value = this.dispatch(method, path, this.readBody(exchange));
+			}
+			catch(final FakeWebDriverException ex)
+			{
+				status = ex.status();
+				value = this.error(ex.error(), ex.getMessage());
+			}
+			catch(final RuntimeException ex)
+			{
+				status = FakeWebDriverException.INTERNAL_SERVER_ERROR;
+				value = this.error("unknown error", String.valueOf(ex));
+			}
+			
+			final byte[] response = this.json.toJson(Collections.singletonMap("value", value))
+				.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(status, response.length);
+			try(OutputStream os = exchange.getResponseBody())
+			{
+				os.write(response);
+			}
+		}
+	}
+	
+	protected Object dispatch(final String method, final String path, final Map<String, Object> body)
+	{
+		for(final Route route : this.routes)
+		{
+			if(!route.method().equals(method))
+			{
+				continue;
+			}
+			final Matcher matcher = route.pattern().matcher(path);
+			if(matcher.matches())
+			{
+				this.commandCounts.computeIfAbsent(route.command(), ignored -> new LongAdder()).increment();
+				return route.handler().handle(matcher, body);
+			}
+		}
+		throw new FakeWebDriverException(
+			FakeWebDriverException.NOT_FOUND,
+			"unknown command",
+			method + " " + path + " is not supported");
+	}
+	
+	protected Map<String, Object> readBody(final HttpExchange exchange) throws IOException
+	{
+		try(InputStream is = exchange.getRequestBody())
+		{
+			final String body = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+			if(body.isBlank())
+			{
+				return Map.of();
+			}
+			return this.json.toType(body, Json.MAP_TYPE);
+		}
+	}
+	
+	protected Map<String, Object> error(final String error, final String message)
+	{
+		return Map.of("error", error, "message", message != null ? message : error, "stacktrace", "");
+	}
+	
+	protected void simulateLatency()
+	{
+		if(this.latency.isZero() && this.jitter.isZero())
+		{
+			return;
+		}
+		
+		final long jitterNanos = this.jitter.toNanos();
+		final long delayNanos = this.latency.toNanos()
+			+ (jitterNanos > 0 ? (long)((this.requestRandom().nextDouble() * 2 - 1) * jitterNanos) : 0);
+		if(delayNanos > 0)
+		{
+			try
+			{
+				TimeUnit.NANOSECONDS.sleep(delayNanos);
+			}
+			catch(final InterruptedException iex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+	
+	protected SplittableRandom requestRandom()
+	{
+		return new SplittableRandom(this.seed + this.requestCounter.getAndIncrement());
+	}
+	
+	protected Object newSession(final Map<String, Object> body)
+	{
+		final FakeSession session = new FakeSession();
+		this.sessions.put(session.id(), session);
+		
+		final Map<String, Object> capabilities = new HashMap<>();
+		if(body.get("capabilities") instanceof final Map<?, ?> requested
+			&& requested.get("alwaysMatch") instanceof final Map<?, ?> alwaysMatch)
+		{
+			alwaysMatch.forEach((key, value) -> capabilities.put(String.valueOf(key), value));
+		}
+		capabilities.putIfAbsent("browserName", "fake");
+		capabilities.put("browserVersion", "1.0");
+		capabilities.put("platformName", "any");
+		
+		return Map.of("sessionId", session.id(), "capabilities", capabilities);
+	}
+	
+	protected FakeSession session(final Matcher path)
+	{
+		return this.session(path.group(1));
+	}
+	
+	protected FakeSession session(final String sessionId)
+	{
+		final FakeSession session = this.sessions.get(sessionId);
+		if(session == null)
+		{
+			throw new FakeWebDriverException(
+				FakeWebDriverException.NOT_FOUND,
+				"invalid session id",
+				"Unknown session " + sessionId);
+		}
+		return session;
+	}
+	
+	protected FakeElement element(final Matcher path)
+	{
+		return this.session(path).element(path.group(2));
+	}
+	
+	protected void navigate(final FakeSession session, final String url)
+	{
+		final Supplier<FakeElement> page = this.pages.get(url);
+		session.navigate(url, page != null ? page.get() : null);
+	}
+	
+	protected String title(final FakeSession session)
+	{
+		final FakeElement document = session.document();
+		if(document == null)
+		{
+			return "";
+		}
+		synchronized(session)
+		{
+			return document.descendants()
+				.filter(e -> "title".equals(e.tagName()))
+				.findFirst()
+				.map(FakeElement::visibleText)
+				.orElse("");
+		}
+	}
+	
+	protected Object findElement(final FakeSession session, final FakeElement searchRoot, final Map<String, Object> by)
+	{
+		final List<?> elements = (List<?>)this.findElements(session, searchRoot, by);
+		if(elements.isEmpty())
+		{
+			throw FakeWebDriverException.noSuchElement("Unable to locate element: " + by);
+		}
+		return elements.get(0);
+	}
+	
+	protected Object findElements(
+		final FakeSession session,
+		final FakeElement searchRoot,
+		final Map<String, Object> by)
+	{
+		final Predicate<FakeElement> predicate = this.locatorPredicate(
+			(String)by.get("using"),
+			(String)by.get("value"));
+		
+		final long deadline = System.nanoTime() + session.implicitWait().toNanos();
+		List<FakeElement> found = session.find(searchRoot, predicate);
+		while(found.isEmpty() && System.nanoTime() < deadline)
+		{
+			try
+			{
+				Thread.sleep(IMPLICIT_WAIT_POLL_INTERVAL.toMillis());
+			}
+			catch(final InterruptedException iex)
+			{
+				Thread.currentThread().interrupt();
+				break;
+			}
+			found = session.find(searchRoot, predicate);
+		}
+		return found.stream().map(e -> this.toReference(session, e)).toList();
+	}
+	
+	protected Predicate<FakeElement> locatorPredicate(final String using, final String value)
+	{
+		if(using == null || value == null)
+		{
+			throw FakeWebDriverException.invalidArgument("Locator strategy and value are required");
+		}
+		return switch(using)
+		{
+			case "css selector" ->
+			{
+				try
+				{
+					yield FakeCssSelector.parse(value)::matches;
+				}
+				catch(final IllegalArgumentException iae)
+				{
+					throw new FakeWebDriverException(
+						FakeWebDriverException.BAD_REQUEST,
+						"invalid selector",
+						iae.getMessage());
+				}
+			}
+			case "tag name" -> e -> e.tagName().equalsIgnoreCase(value);
+			case "link text" -> e -> "a".equals(e.tagName()) && e.visibleText().trim().equals(value);
+			case "partial link text" -> e -> "a".equals(e.tagName()) && e.visibleText().contains(value);
+			default -> throw new FakeWebDriverException(
+				FakeWebDriverException.BAD_REQUEST,
+				"invalid selector",
+				"Unsupported locator strategy: " + using);
+		};
+	}
+	
+	protected Object executeScript(final FakeSession session, final Map<String, Object> body, final boolean async)
+	{
+		final List<?> rawArgs = body.get("args") instanceof final List<?> list ? list : List.of();
+		synchronized(session)
+		{
+			final List<Object> args = new ArrayList<>(rawArgs.size());
+			for(final Object rawArg : rawArgs)
+			{
+				args.add(this.fromJson(session, rawArg));
+			}
+			final String script = (String)body.get("script");
+			return this.toJson(
+				session,
+				script != null && script.startsWith(GET_ATTRIBUTE_ATOM)
+					? ((FakeElement)args.get(0)).attribute((String)args.get(1))
+					: script != null && script.startsWith(IS_DISPLAYED_ATOM)
+					? Boolean.TRUE
+					: this.scriptHandler.execute(script, args, session.document(), async));
+		}
+	}
+	
+	protected Map<String, Object> toReference(final FakeSession session, final FakeElement element)
+	{
+		return Map.of(ELEMENT_KEY, session.reference(element));
+	}
+	
+	protected Object fromJson(final FakeSession session, final Object value)
+	{
+		if(value instanceof final Map<?, ?> map)
+		{
+			if(map.get(ELEMENT_KEY) instanceof final String elementId)
+			{
+				return session.element(elementId);
+			}
+			final Map<String, Object> result = new LinkedHashMap<>();
+			map.forEach((k, v) -> result.put(String.valueOf(k), this.fromJson(session, v)));
+			return result;
+		}
+		if(value instanceof final List<?> list)
+		{
+			return list.stream().map(v -> this.fromJson(session, v)).toList();
+		}
+		return value;
+	}
+	
+	protected Object toJson(final FakeSession session, final Object value)
+	{
+		if(value instanceof final FakeElement element)
+		{
+			return this.toReference(session, element);
+		}
+		if(value instanceof final Map<?, ?> map)
+		{
+			final Map<String, Object> result = new LinkedHashMap<>();
+			map.forEach((k, v) -> result.put(String.valueOf(k), this.toJson(session, v)));
+			return result;
+		}
+		if(value instanceof final Collection<?> collection)
+		{
+			final List<Object> result = new ArrayList<>(collection.size());
+			collection.forEach(v -> result.add(this.toJson(session, v)));
+			return result;
+		}
+		return value;
+	}
+}
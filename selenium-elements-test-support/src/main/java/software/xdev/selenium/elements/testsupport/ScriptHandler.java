@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.util.List;
+
+
+/**
+ * Executes scripts for {@link FakeWebDriverServer} (as there is no real JavaScript engine).
+ */
+@FunctionalInterface
+public interface ScriptHandler
+{
+	/**
+	 * @param script   the script
+	 * @param args     the arguments; element references are resolved to {@link FakeElement FakeElements}
+	 * @param document the root element of the current page or <code>null</code> if no page is loaded
+	 * @param async    if the script was executed asynchronously
+	 * @return the result; {@link FakeElement FakeElements} are converted into element references
+	 */
+	Object execute(String script, List<Object> args, FakeElement document, boolean async);
+	
+	/**
+	 * Returns <code>true</code> for all scripts, e.g. so that the page is considered loaded and all elements are
+	 * displayed.
+	 */
+	static ScriptHandler alwaysTrue()
+	{
+		return (script, args, document, async) -> Boolean.TRUE;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebDriver;
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebElementInstaller;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+class CustomizableRemoteWebDriverTest
+{
+	private static final String PAGE = "https://example.org/";
+	
+	private FakeWebDriverServer server;
+	private CustomizableRemoteWebDriver driver;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.server = new FakeWebDriverServer()
+			.withPage(PAGE, () -> FakeElement.of("html").children(
+				FakeElement.of("body").children(
+					FakeElement.of("div").id("main").children(
+						FakeElement.of("button").text("Save"),
+						FakeElement.of("button").text("Cancel")))))
+			// Returns the first argument (e.g. an element)
+			.withScriptHandler((script, args, document, async) -> args.isEmpty() ? Boolean.TRUE : args.get(0))
+			.start();
+		this.driver = new CustomizableRemoteWebDriver(
+			new HttpCommandExecutor(this.server.url()),
+			new ImmutableCapabilities("browserName", "fake"),
+			() -> new ImprovedRemoteWebElement("return true;"));
+		this.driver.get(PAGE);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.driver.quit();
+		this.server.close();
+	}
+	
+	@Test
+	void elementsAreCreatedUsingSupplier()
+	{
+		final WebElement main = this.driver.findElement(By.id("main"));
+		Assertions.assertInstanceOf(ImprovedRemoteWebElement.class, main);
+		Assertions.assertSame(this.driver, ((RemoteWebElement)main).getWrappedDriver());
+		
+		final List<WebElement> buttons = main.findElements(By.tagName("button"));
+		Assertions.assertEquals(2, buttons.size());
+		buttons.forEach(button -> Assertions.assertInstanceOf(ImprovedRemoteWebElement.class, button));
+		Assertions.assertEquals("Cancel", buttons.get(1).getText());
+		
+		// Elements returned by scripts are converted too
+		Assertions.assertInstanceOf(
+			ImprovedRemoteWebElement.class,
+			this.driver.executeScript("return arguments[0];", main));
+	}
+	
+	@Test
+	void installerReplacesSupplierWithoutReflection()
+	{
+		CustomizableRemoteWebElementInstaller.install(this.driver, CustomRemoteWebElement::new);
+		
+		Assertions.assertInstanceOf(CustomRemoteWebElement.class, this.driver.findElement(By.id("main")));
+	}
+	
+	static class CustomRemoteWebElement extends RemoteWebElement
+	{
+	}
+}
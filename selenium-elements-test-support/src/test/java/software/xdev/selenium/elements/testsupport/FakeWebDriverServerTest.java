@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebElementInstaller;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+class FakeWebDriverServerTest
+{
+	private static final String PAGE = "https://example.org/";
+	
+	private FakeWebDriverServer server;
+	private RemoteWebDriver driver;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.server = new FakeWebDriverServer()
+			.withPage(PAGE, () -> FakeElement.of("html").children(
+				FakeElement.of("head").children(FakeElement.of("title").text("Example")),
+				FakeElement.of("body").children(
+					FakeElement.of("div").id("main").classes("content").children(
+						FakeElement.of("button").classes("btn", "primary").text("Save"),
+						FakeElement.of("a").attribute("href", "/next").text("Next page")),
+					FakeElement.of("input").attribute("name", "q"))))
+			.start();
+		this.driver = new RemoteWebDriver(
+			new HttpCommandExecutor(this.server.url()),
+			new ImmutableCapabilities("browserName", "fake"));
+		this.driver.get(PAGE);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.driver.quit();
+		this.server.close();
+	}
+	
+	@Test
+	void findAndInteract()
+	{
+		Assertions.assertEquals("Example", this.driver.getTitle());
+		
+		final WebElement button = this.driver.findElement(By.cssSelector("#main > button.btn.primary"));
+		Assertions.assertEquals("Save", button.getText());
+		Assertions.assertEquals("button", button.getTagName());
+		button.click();
+		Assertions.assertEquals(
+			1,
+			this.server.document(this.driver.getSessionId().toString())
+				.descendants()
+				.filter(e -> "button".equals(e.tagName()))
+				.findFirst()
+				.orElseThrow()
+				.clicks());
+		
+		Assertions.assertEquals("/next", this.driver.findElement(By.linkText("Next page")).getAttribute("href"));
+		
+		final WebElement input = this.driver.findElement(By.name("q"));
+		input.sendKeys("abc");
+		Assertions.assertEquals("abc", input.getAttribute("value"));
+		
+		final List<WebElement> nested = this.driver.findElement(By.id("main")).findElements(By.tagName("a"));
+		Assertions.assertEquals(1, nested.size());
+	}
+	
+	@Test
+	void errorsAreMappedToWebDriverExceptions()
+	{
+		Assertions.assertThrows(NoSuchElementException.class, () -> this.driver.findElement(By.id("missing")));
+		Assertions.assertThrows(InvalidSelectorException.class, () -> this.driver.findElement(By.xpath("//div")));
+	}
+	
+	@Test
+	void implicitWaitPollsUntilElementAppears()
+	{
+		this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
+		final FakeElement body = this.server.document(this.driver.getSessionId().toString())
+			.descendants()
+			.filter(e -> "body".equals(e.tagName()))
+			.findFirst()
+			.orElseThrow();
+		
+		final Thread appender = new Thread(() -> {
+			try
+			{
+				Thread.sleep(100);
+			}
+			catch(final InterruptedException iex)
+			{
+				Thread.currentThread().interrupt();
+			}
+			synchronized(this.server.sessions.get(this.driver.getSessionId().toString()))
+			{
+				body.children(FakeElement.of("span").id("late"));
+			}
+		});
+		appender.start();
+		
+		Assertions.assertEquals("span", this.driver.findElement(By.id("late")).getTagName());
+	}
+	
+	@Test
+	void customizableRemoteWebElements()
+	{
+		CustomizableRemoteWebElementInstaller.install(
+			this.driver,
+			() -> new ImprovedRemoteWebElement("return true;"));
+		
+		final WebElement button = this.driver.findElement(By.tagName("button"));
+		Assertions.assertInstanceOf(ImprovedRemoteWebElement.class, button);
+		
+		this.server.resetCommandCounts();
+		button.click();
+		Assertions.assertEquals(
+			1L,
+			this.server.commandCounts().get("POST /session/{id}/element/{id}/click"));
+	}
+	
+	@Test
+	void latencyIsApplied()
+	{
+		this.server.withLatency(Duration.ofMillis(20), Duration.ZERO);
+		
+		final long start = System.nanoTime();
+		this.driver.getTitle();
+		Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 20);
+	}
+}
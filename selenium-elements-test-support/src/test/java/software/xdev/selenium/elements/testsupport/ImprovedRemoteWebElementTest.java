@@ -0,0 +1,283 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.testsupport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import software.xdev.selenium.elements.remote.CommandCounter;
+import software.xdev.selenium.elements.remote.CustomizableRemoteWebElementInstaller;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+class ImprovedRemoteWebElementTest
+{
+	private static final String PAGE = "https://example.org/";
+	private static final String SERVER_LOAD_FINISHED = "return window.loaded === true;";
+	
+	private static final String EXECUTE_SYNC = "POST /session/{id}/execute/sync";
+	private static final String EXECUTE_ASYNC = "POST /session/{id}/execute/async";
+	
+	private volatile ScriptHandler scriptHandler = ScriptHandler.alwaysTrue();
+	private FakeWebDriverServer server;
+	private RemoteWebDriver driver;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.server = new FakeWebDriverServer()
+			.withPage(PAGE, () -> FakeElement.of("html").children(
+				FakeElement.of("body").children(
+					FakeElement.of("button").id("save").text("Save"))))
+			.withScriptHandler((script, args, document, async) ->
+				this.scriptHandler.execute(script, args, document, async))
+			.start();
+		this.driver = new RemoteWebDriver(
+			new HttpCommandExecutor(this.server.url()),
+			new ImmutableCapabilities("browserName", "fake"));
+		this.driver.get(PAGE);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.driver.quit();
+		this.server.close();
+	}
+	
+	private TestImprovedRemoteWebElement findButton(final Consumer<TestImprovedRemoteWebElement> configurer)
+	{
+		CustomizableRemoteWebElementInstaller.install(
+			this.driver,
+			() -> {
+				final TestImprovedRemoteWebElement element = new TestImprovedRemoteWebElement();
+				configurer.accept(element);
+				return element;
+			});
+		final TestImprovedRemoteWebElement button =
+			(TestImprovedRemoteWebElement)this.driver.findElement(By.id("save"));
+		this.server.resetCommandCounts();
+		return button;
+	}
+	
+	@Test
+	void asyncWaitRequiresSingleCommand()
+	{
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e.withWaitForServerLoadToFinishAsync(true));
+		
+		button.waitForServerLoadToFinish();
+		
+		Assertions.assertEquals(1L, this.server.commandCounts().get(EXECUTE_ASYNC));
+		Assertions.assertNull(this.server.commandCounts().get(EXECUTE_SYNC));
+	}
+	
+	@Test
+	void asyncWaitFallsBackToPollingIfScriptFails()
+	{
+		this.scriptHandler = (script, args, document, async) -> {
+			if(async)
+			{
+				throw new UnsupportedOperationException("Async scripts are not supported");
+			}
+			return SERVER_LOAD_FINISHED.equals(script);
+		};
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e.withWaitForServerLoadToFinishAsync(true));
+		
+		button.waitForServerLoadToFinish();
+		
+		Assertions.assertEquals(1L, this.server.commandCounts().get(EXECUTE_ASYNC));
+		Assertions.assertEquals(1L, this.server.commandCounts().get(EXECUTE_SYNC));
+	}
+	
+	@Test
+	void asyncWaitFallsBackToPollingIfResultIsNotBoolean()
+	{
+		this.scriptHandler = (script, args, document, async) -> async ? null : SERVER_LOAD_FINISHED.equals(script);
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e.withWaitForServerLoadToFinishAsync(true));
+		
+		button.waitForServerLoadToFinish();
+		
+		Assertions.assertEquals(1L, this.server.commandCounts().get(EXECUTE_ASYNC));
+		Assertions.assertEquals(1L, this.server.commandCounts().get(EXECUTE_SYNC));
+	}
+	
+	@Test
+	void pollingStopsOnceFinished()
+	{
+		final AtomicInteger checks = new AtomicInteger();
+		this.scriptHandler = (script, args, document, async) -> checks.incrementAndGet() >= 3;
+		final TestImprovedRemoteWebElement button = this.findButton(e -> { });
+		
+		Assertions.assertTrue(button.pollForServerLoadToFinish(Duration.ofSeconds(5)));
+		Assertions.assertEquals(3, checks.get());
+		Assertions.assertEquals(3L, this.server.commandCounts().get(EXECUTE_SYNC));
+	}
+	
+	@Test
+	void pollingBacksOffUntilMaxIntervalAndTimesOut()
+	{
+		final List<Long> checkTimes = Collections.synchronizedList(new ArrayList<>());
+		this.scriptHandler = (script, args, document, async) -> {
+			checkTimes.add(System.nanoTime());
+			return false;
+		};
+		final TestImprovedRemoteWebElement button = this.findButton(e -> { });
+		final Duration timeout = Duration.ofMillis(1500);
+		
+		final long start = System.nanoTime();
+		Assertions.assertFalse(button.pollForServerLoadToFinish(timeout));
+		final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+		
+		Assertions.assertTrue(elapsed.compareTo(timeout) >= 0, "Returned before the timeout: " + elapsed);
+		// 25, 50, 100, 200, 250, 250, ... ms instead of a busy-spin
+		Assertions.assertTrue(
+			checkTimes.size() >= 6 && checkTimes.size() <= 12,
+			"Unexpected number of checks: " + checkTimes.size());
+		
+		long expectedMinIntervalMs = ImprovedRemoteWebElement.DEFAULT_SERVER_LOAD_POLL_INTERVAL.toMillis();
+		final long maxIntervalMs = ImprovedRemoteWebElement.DEFAULT_SERVER_LOAD_MAX_POLL_INTERVAL.toMillis();
+		// The last check is executed once the (possibly shortened) interval until the timeout passed
+		for(int i = 1; i < checkTimes.size() - 1; i++)
+		{
+			final long intervalMs = Duration.ofNanos(checkTimes.get(i) - checkTimes.get(i - 1)).toMillis();
+			Assertions.assertTrue(
+				intervalMs >= expectedMinIntervalMs,
+				"Interval " + i + " was " + intervalMs + "ms, expected at least " + expectedMinIntervalMs + "ms");
+			Assertions.assertTrue(
+				intervalMs < maxIntervalMs * 2,
+				"Interval " + i + " was " + intervalMs + "ms, expected it to be capped at " + maxIntervalMs + "ms");
+			expectedMinIntervalMs = Math.min(expectedMinIntervalMs * 2, maxIntervalMs);
+		}
+	}
+	
+	private static boolean isPrepareForOperationScript(final String script, final boolean async)
+	{
+		// The fused script contains the server load function
+		return !async && !SERVER_LOAD_FINISHED.equals(script) && script.contains(SERVER_LOAD_FINISHED);
+	}
+	
+	@Test
+	void fusedPrepareForOperationRequiresSingleCommandIfReady()
+	{
+		final List<List<Object>> fusedArgs = Collections.synchronizedList(new ArrayList<>());
+		this.scriptHandler = (script, args, document, async) -> {
+			if(isPrepareForOperationScript(script, async))
+			{
+				fusedArgs.add(args);
+				return Map.of("ready", true, "displayed", true, "scrolled", false);
+			}
+			return Assertions.fail("Unexpected script: " + script);
+		};
+		final CommandCounter commandCounter = new CommandCounter();
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e
+			.withFusedPrepareForOperation(true)
+			.withCommandCounter(commandCounter));
+		
+		button.prepareForOperation();
+		
+		Assertions.assertEquals(1, commandCounter.operations());
+		Assertions.assertEquals(1, commandCounter.commands());
+		Assertions.assertEquals(Map.of(EXECUTE_SYNC, 1L), this.server.commandCounts());
+		
+		Assertions.assertEquals(1, fusedArgs.size());
+		final List<Object> args = fusedArgs.get(0);
+		Assertions.assertEquals("button", ((FakeElement)args.get(0)).tagName());
+		// Auto scroll into view
+		Assertions.assertEquals(true, args.get(1));
+		// The server load check must not be skipped
+		Assertions.assertEquals(false, args.get(2));
+	}
+	
+	@Test
+	void fusedPrepareForOperationFallsBackIfNotReady()
+	{
+		final AtomicInteger fusedCalls = new AtomicInteger();
+		final AtomicInteger serverLoadChecks = new AtomicInteger();
+		this.scriptHandler = (script, args, document, async) -> {
+			if(isPrepareForOperationScript(script, async))
+			{
+				fusedCalls.incrementAndGet();
+				return Map.of("ready", false, "displayed", false, "scrolled", false);
+			}
+			if(SERVER_LOAD_FINISHED.equals(script))
+			{
+				serverLoadChecks.incrementAndGet();
+				return true;
+			}
+			return Assertions.fail("Unexpected script: " + script);
+		};
+		final CommandCounter commandCounter = new CommandCounter();
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e
+			.withFusedPrepareForOperation(true)
+			.withCommandCounter(commandCounter));
+		
+		button.prepareForOperation();
+		
+		Assertions.assertEquals(1, fusedCalls.get());
+		Assertions.assertEquals(1, serverLoadChecks.get());
+		Assertions.assertEquals(1, commandCounter.operations());
+		// Fused script + server load check + isDisplayed (the element is displayed, so no scrolling)
+		Assertions.assertEquals(3, commandCounter.commands());
+		Assertions.assertEquals(Map.of(EXECUTE_SYNC, 3L), this.server.commandCounts());
+	}
+	
+	@Test
+	void commandCounterCountsCommandsPerOperation()
+	{
+		final CommandCounter commandCounter = new CommandCounter();
+		final TestImprovedRemoteWebElement button = this.findButton(e -> e.withCommandCounter(commandCounter));
+		
+		Assertions.assertEquals("Save", button.getText());
+		Assertions.assertEquals("Save", button.getText());
+		
+		Assertions.assertEquals(2, commandCounter.operations());
+		// Per operation: server load check + isDisplayed + getText
+		Assertions.assertEquals(6, commandCounter.commands());
+		Assertions.assertEquals(3.0, commandCounter.commandsPerOperation());
+		Assertions.assertEquals(this.server.commandCount(), commandCounter.commands());
+		
+		commandCounter.reset();
+		Assertions.assertEquals(0, commandCounter.operations());
+		Assertions.assertEquals(0.0, commandCounter.commandsPerOperation());
+	}
+	
+	static class TestImprovedRemoteWebElement extends ImprovedRemoteWebElement
+	{
+		TestImprovedRemoteWebElement()
+		{
+			super(SERVER_LOAD_FINISHED);
+		}
+		
+		boolean pollForServerLoadToFinish(final Duration timeout)
+		{
+			return this.pollForServerLoadToFinish(System.currentTimeMillis() + timeout.toMillis());
+		}
+	}
+}
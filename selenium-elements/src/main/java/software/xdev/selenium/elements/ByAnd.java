@@ -15,7 +15,9 @@
  */
 package software.xdev.selenium.elements;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,9 +27,18 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 
+import software.xdev.selenium.elements.tracing.ElementTracer;
+import software.xdev.selenium.elements.tracing.ElementTracerInstance;
+
 
 /**
  * Chains multiple {@link By Bys} together.
+ * <p>
+ * When created with <code>combineCssSelectors</code> all locators that can be expressed in CSS (css, id, class name,
+ * tag name and name) are combined into a single CSS selector (see {@link CssSelectorCombiner}). This results in a
+ * single lookup for them. Only the remaining locators (e.g. xpath or link text) are looked up individually and
+ * intersected.
+ * </p>
  *
  * @apiNote You should consider using {@link org.openqa.selenium.support.pagefactory.ByChained} as it's more performant
  */
@@ -35,10 +46,52 @@ import org.openqa.selenium.WebElement;
 public class ByAnd extends By
 {
 	private final By[] bys;
+	private final By[] bysToSearch;
 	
 	public ByAnd(final By... bys)
+	{
+		this(false, bys);
+	}
+	
+	public ByAnd(final boolean combineCssSelectors, final By... bys)
 	{
 		this.bys = bys;
+		this.bysToSearch = combineCssSelectors ? combineCssSelectors(bys) : bys;
+	}
+	
+	/**
+	 * Creates a {@link ByAnd} that combines all locators that can be expressed in CSS into a single selector.
+	 */
+	public static ByAnd combining(final By... bys)
+	{
+		return new ByAnd(true, bys);
+	}
+	
+	static By[] combineCssSelectors(final By[] bys)
+	{
+		final List<String> cssSelectors = new ArrayList<>();
+		final List<By> others = new ArrayList<>();
+		for(final By by : bys)
+		{
+			final String cssSelector = CssSelectorCombiner.toCssSelector(by);
+			if(cssSelector != null)
+			{
+				cssSelectors.add(cssSelector);
+			}
+			else
+			{
+				others.add(by);
+			}
+		}
+		
+		if(cssSelectors.size() < 2)
+		{
+			return bys;
+		}
+		
+		// The combined selector should be quite specific -> search it first
+		others.add(0, By.cssSelector(CssSelectorCombiner.combine(cssSelectors)));
+		return others.toArray(By[]::new);
 	}
 	
 	@Override
@@ -55,25 +108,63 @@ public class ByAnd extends By
 	@Override
 	public List<WebElement> findElements(final SearchContext context)
 	{
-		if(this.bys.length == 0)
+		final ElementTracer tracer = ElementTracerInstance.instance();
+		if(!tracer.enabled())
+		{
+			return this.findElements(context, tracer);
+		}
+		return tracer.trace("ByAnd.findElements", span -> {
+			span.setAttribute("locator", this);
+			final List<WebElement> elements = this.findElements(context, tracer);
+			span.setAttribute("element.count", elements.size());
+			return elements;
+		});
+	}
+	
+	protected List<WebElement> findElements(final SearchContext context, final ElementTracer tracer)
+	{
+		if(this.bysToSearch.length == 0)
 		{
 			return List.of();
 		}
+		if(this.bysToSearch.length == 1)
+		{
+			return this.findSubQueryElements(context, this.bysToSearch[0], tracer);
+		}
 		
-		final LinkedHashSet<WebElement> elements = new LinkedHashSet<>(context.findElements(this.bys[0]));
-		for(int i = 1; i < this.bys.length; i++)
+		final LinkedHashSet<WebElement> elements =
+			new LinkedHashSet<>(this.findSubQueryElements(context, this.bysToSearch[0], tracer));
+		for(int i = 1; i < this.bysToSearch.length; i++)
 		{
 			if(elements.isEmpty()) // No match!
 			{
 				return List.of();
 			}
 			
-			elements.retainAll(context.findElements(this.bys[i]));
+			// Set lookups, otherwise each contains check iterates over all elements of the sub query
+			elements.retainAll(new HashSet<>(this.findSubQueryElements(context, this.bysToSearch[i], tracer)));
 		}
 		
 		return elements.stream().toList();
 	}
 	
+	protected List<WebElement> findSubQueryElements(
+		final SearchContext context,
+		final By by,
+		final ElementTracer tracer)
+	{
+		if(!tracer.enabled())
+		{
+			return context.findElements(by);
+		}
+		return tracer.trace("ByAnd.subQuery", span -> {
+			span.setAttribute("locator", by);
+			final List<WebElement> elements = context.findElements(by);
+			span.setAttribute("element.count", elements.size());
+			return elements;
+		});
+	}
+	
 	@Override
 	public String toString()
 	{
@@ -16,10 +16,12 @@
 package software.xdev.selenium.elements;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -27,10 +29,19 @@ import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ByChained;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
+import software.xdev.selenium.elements.async.AsyncExecutorInstance;
 import software.xdev.selenium.elements.instantiator.ElementInstantiator;
 import software.xdev.selenium.elements.instantiator.ElementInstantiatorInstance;
+import software.xdev.selenium.elements.metrics.ElementMetrics;
+import software.xdev.selenium.elements.metrics.ElementMetricsInstance;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+import software.xdev.selenium.elements.tracing.ElementSpan;
+import software.xdev.selenium.elements.tracing.ElementTracer;
+import software.xdev.selenium.elements.tracing.ElementTracerInstance;
+import software.xdev.selenium.elements.wait.LocatedCondition;
+import software.xdev.selenium.elements.wait.WaitStrategy;
+import software.xdev.selenium.elements.wait.WaitStrategyInstance;
 
 
 /**
@@ -57,12 +68,12 @@ public interface CanFindElements
 	
 	default WebElement waitForFirstAnd(final By... andBys)
 	{
-		return this.waitForFirst(new ByAnd(andBys));
+		return this.waitForFirst(ByAnd.combining(andBys));
 	}
 	
 	default WebElement waitForFirst(final By by)
 	{
-		return this.waitUntil(wd -> this.determineSearchContext(wd).findElement(by));
+		return this.waitForFirstCached(by, DEFAULT_WAIT_UNTIL_DURATION);
 	}
 	
 	default WebElement waitForFirstByClassName(final String className)
@@ -87,49 +98,489 @@ public interface CanFindElements
 		final By additionalAndBy,
 		final Duration duration)
 	{
-		return this.elementProxyCreator().find(
-			by -> {
-				final By byToUse;
+		return this.elementTracer().trace("CanFindElements.waitForFirst", span -> {
+			span.setAttribute("element.class", clazz)
+				.setAttribute("locator", additionalAndBy);
+			
+			return this.elementProxyCreator().find(
+				by -> {
+					final By byToUse;
+					
+					final boolean byPresent = by != null;
+					final boolean additionalByPresent = additionalAndBy != null;
+					if(byPresent && additionalByPresent)
+					{
+						byToUse = ByAnd.combining(by, additionalAndBy);
+					}
+					else if(byPresent)
+					{
+						byToUse = by;
+					}
+					else if(additionalByPresent)
+					{
+						byToUse = additionalAndBy;
+					}
+					else
+					{
+						throw new IllegalStateException("No locator that is not null present");
+					}
+					
+					return this.waitForFirstCached(byToUse, duration);
+				},
+				clazz);
+		});
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #waitForFirst(Class)}.
+	 *
+	 * @see #waitUntilAsync(Function, Duration, Object)
+	 */
+	default <T extends WebElement> CompletableFuture<T> waitForFirstAsync(final Class<T> clazz)
+	{
+		return this.waitForFirstAsync(clazz, DEFAULT_WAIT_UNTIL_DURATION);
+	}
+	
+	default <T extends WebElement> CompletableFuture<T> waitForFirstAsync(
+		final Class<T> clazz,
+		final Duration duration)
+	{
+		final ElementInstantiator instantiator = this.elementProxyCreator();
+		return this.waitUntilAsync(
+			wd -> instantiator.find(this.determineSearchContext(wd)::findElement, clazz),
+			duration,
+			clazz);
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #waitForFirst(By)}.
+	 *
+	 * @see #waitUntilAsync(Function, Duration, Object)
+	 */
+	default CompletableFuture<WebElement> waitForFirstAsync(final By by)
+	{
+		return this.waitForFirstAsync(by, DEFAULT_WAIT_UNTIL_DURATION);
+	}
+	
+	default CompletableFuture<WebElement> waitForFirstAsync(final By by, final Duration duration)
+	{
+		return this.waitUntilAsync(wd -> this.determineSearchContext(wd).findElement(by), duration, by);
+	}
+	
+	/**
+	 * Waits for the first element - or returns it from the {@link #elementReferenceCache()} if it was already found
+	 * and the DOM is unchanged.
+	 */
+	default WebElement waitForFirstCached(final By by, final Duration duration)
+	{
+		return this.elementTracer().trace("CanFindElements.waitForFirstCached", span -> {
+			span.setAttribute("locator", by);
+			
+			final ElementReferenceCache cache = this.elementReferenceCache();
+			if(cache == null)
+			{
+				return this.waitUntil(wd -> this.determineSearchContext(wd).findElement(by), duration, by);
+			}
+			
+			final WebDriver webDriver = this.getWebDriver();
+			return cache.computeIfAbsent(
+				webDriver,
+				this.determineSearchContext(webDriver),
+				by,
+				() -> this.waitUntil(wd -> this.determineSearchContext(wd).findElement(by), duration, by));
+		});
+	}
+	
+	/**
+	 * Cache for found elements that is used by the <code>waitForFirst</code> methods.
+	 * <p>
+	 * Disabled (<code>null</code>) by default. To enable it return a cache that is shared by all lookups of the same
+	 * driver.
+	 * </p>
+	 */
+	default ElementReferenceCache elementReferenceCache()
+	{
+		return null;
+	}
+	
+	/**
+	 * @see #waitForAny(Duration, Class[])
+	 */
+	default WebElement waitForAny(final Class<?>... classes)
+	{
+		return this.waitForAny(DEFAULT_WAIT_UNTIL_DURATION, classes);
+	}
+	
+	/**
+	 * Waits until an element of any of the given classes is present.
+	 * <p>
+	 * All locators are checked on each attempt. If all of them are expressible in CSS and the search context is the
+	 * driver or an element this is done using a single script execution.
+	 * </p>
+	 *
+	 * @param classes the element classes; if multiple are present the one that is passed first is returned
+	 * @return the element, proxied as the class that matched (check it with <code>instanceof</code>)
+	 * @throws IllegalArgumentException if a class is no {@link WebElement} or has no selector
+	 */
+	default WebElement waitForAny(final Duration duration, final Class<?>... classes)
+	{
+		final ElementInstantiator creator = this.elementProxyCreator();
+		
+		final By[] bys = new By[classes.length];
+		final List<String> cssSelectors = new ArrayList<>(classes.length);
+		for(int i = 0; i < classes.length; i++)
+		{
+			if(!WebElement.class.isAssignableFrom(classes[i]))
+			{
+				throw new IllegalArgumentException(classes[i] + " is not a WebElement");
+			}
+			bys[i] = creator.buildSelector(classes[i].asSubclass(WebElement.class));
+			if(bys[i] == null)
+			{
+				throw new IllegalArgumentException(classes[i] + " has no selector (e.g. @FindBySelector)");
+			}
+			cssSelectors.add(CssSelectorCombiner.toCssSelector(bys[i]));
+		}
+		final boolean useScript = !cssSelectors.contains(null) && this.getWebDriver() instanceof JavascriptExecutor;
+		
+		return this.waitUntil(
+			wd -> {
+				final SearchContext searchContext = this.determineSearchContext(wd);
+				// Other search contexts (e.g. a shadow root) can't be passed to the script as the root
+				if(useScript && (searchContext instanceof WebElement || searchContext instanceof WebDriver))
+				{
+					final List<?> result = (List<?>)this.executeScript(
+						ElementScripts.FIND_FIRST_OF,
+						searchContext instanceof WebElement ? searchContext : null,
+						cssSelectors);
+					if(result == null)
+					{
+						return null;
+					}
+					final int index = ((Number)result.get(0)).intValue();
+					return creator.proxyWebElement(
+						classes[index].asSubclass(WebElement.class),
+						(WebElement)result.get(1));
+				}
 				
-				final boolean byPresent = by != null;
-				final boolean additionalByPresent = additionalAndBy != null;
-				if(byPresent && additionalByPresent)
+				for(int i = 0; i < bys.length; i++)
 				{
-					byToUse = new ByAnd(by, additionalAndBy);
+					final List<WebElement> elements = searchContext.findElements(bys[i]);
+					if(!elements.isEmpty())
+					{
+						return creator.proxyWebElement(classes[i].asSubclass(WebElement.class), elements.get(0));
+					}
 				}
-				else if(byPresent)
+				return null;
+			},
+			duration,
+			List.of(classes));
+	}
+	
+	/**
+	 * Looks up the first element that is present right now without waiting.
+	 *
+	 * @return the element or <code>null</code> if there is none
+	 * @see #withoutImplicitWait(Function)
+	 */
+	default <T extends WebElement> T findFirstOrNull(final Class<T> clazz)
+	{
+		final List<T> elements = this.findAll(clazz);
+		return !elements.isEmpty() ? elements.get(0) : null;
+	}
+	
+	/**
+	 * @see #findFirstOrNull(Class)
+	 */
+	default WebElement findFirstOrNull(final By by)
+	{
+		final List<WebElement> elements = this.findAll(by);
+		return !elements.isEmpty() ? elements.get(0) : null;
+	}
+	
+	/**
+	 * Checks if an element is present right now without waiting.
+	 *
+	 * @see #withoutImplicitWait(Function)
+	 */
+	default boolean exists(final Class<? extends WebElement> clazz)
+	{
+		return !this.findAll(clazz).isEmpty();
+	}
+	
+	/**
+	 * @see #exists(Class)
+	 */
+	default boolean exists(final By by)
+	{
+		return !this.findAll(by).isEmpty();
+	}
+	
+	/**
+	 * Looks up all elements that are present right now without waiting.
+	 *
+	 * @see #withoutImplicitWait(Function)
+	 */
+	default <T extends WebElement> List<T> findAll(final Class<T> clazz)
+	{
+		return this.withoutImplicitWait(wd -> this.elementProxyCreator()
+			.findAll(this.determineSearchContext(wd), clazz));
+	}
+	
+	/**
+	 * @see #findAll(Class)
+	 */
+	default List<WebElement> findAll(final By by)
+	{
+		return this.withoutImplicitWait(wd -> this.determineSearchContext(wd).findElements(by));
+	}
+	
+	/**
+	 * Executes the action with the implicit wait of the driver temporarily set to zero (if it's configured).
+	 * <p>
+	 * Note that the implicit wait is a setting of the whole session, so other threads that use the same driver
+	 * concurrently are also affected.
+	 * </p>
+	 * <p>
+	 * The implicit wait is read from the session on each call and exactly this value is restored afterward.
+	 * </p>
+	 */
+	default <V> V withoutImplicitWait(final Function<WebDriver, V> action)
+	{
+		final WebDriver webDriver = this.getWebDriver();
+		final WebDriver.Timeouts timeouts = webDriver.manage().timeouts();
+		final Duration implicitWait = timeouts.getImplicitWaitTimeout();
+		if(implicitWait.isZero())
+		{
+			return action.apply(webDriver);
+		}
+		
+		timeouts.implicitlyWait(Duration.ZERO);
+		try
+		{
+			return action.apply(webDriver);
+		}
+		finally
+		{
+			timeouts.implicitlyWait(implicitWait);
+		}
+	}
+	
+	default ElementInstantiator elementProxyCreator()
+	{
+		// Only resolve the driver when it's required
+		return ElementInstantiatorInstance.hasDriverInstances()
+			? ElementInstantiatorInstance.instance(this.getWebDriver())
+			: ElementInstantiatorInstance.instance();
+	}
+	
+	default <V> V waitUntil(final Function<WebDriver, V> isTrue)
+	{
+		return this.waitUntil(isTrue, DEFAULT_WAIT_UNTIL_DURATION);
+	}
+	
+	/**
+	 * Waits using the {@link #waitStrategy()}.
+	 * <p>
+	 * If the condition is a {@link LocatedCondition} its locator is passed to the strategy.
+	 * </p>
+	 *
+	 * @see WaitStrategy#until(WebDriver, Duration, Function, Object)
+	 */
+	default <V> V waitUntil(final Function<WebDriver, V> isTrue, final Duration duration)
+	{
+		final Object locator = LocatedCondition.locatorOf(isTrue);
+		final ElementMetrics metrics = this.elementMetrics();
+		final ElementTracer tracer = this.elementTracer();
+		if(!metrics.enabled() && !tracer.enabled())
+		{
+			return this.waitStrategy().until(this.getWebDriver(), duration, isTrue, locator);
+		}
+		return this.measureWait(
+			metrics,
+			tracer,
+			locator,
+			isTrue,
+			counted -> this.waitStrategy().until(this.getWebDriver(), duration, counted, locator));
+	}
+	
+	/**
+	 * Delegates to {@link #waitUntil(Function, Duration)} (so that overrides of it are also used by e.g.
+	 * {@link #waitForFirst(By)}).
+	 *
+	 * @param locator what is waited for, allows the {@link #waitStrategy()} to adapt to it
+	 * @see LocatedCondition
+	 */
+	default <V> V waitUntil(final Function<WebDriver, V> isTrue, final Duration duration, final Object locator)
+	{
+		return this.waitUntil(locator != null ? new LocatedCondition<>(isTrue, locator) : isTrue, duration);
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #waitUntil(Function, Duration, Object)}.
+	 * <p>
+	 * The attempts are executed by the {@link #asyncExecutor()}. If the {@link #waitStrategy()} supports it no
+	 * thread is blocked between two attempts.
+	 * </p>
+	 *
+	 * <p>
+	 * Like for the synchronous variant the duration, poll count and outcome of the wait are recorded (when the
+	 * returned future completes).
+	 * </p>
+	 *
+	 * @see WaitStrategy#untilAsync(WebDriver, Duration, Function, Object, Executor)
+	 */
+	default <V> CompletableFuture<V> waitUntilAsync(
+		final Function<WebDriver, V> isTrue,
+		final Duration duration,
+		final Object locator)
+	{
+		final ElementMetrics metrics = this.elementMetrics();
+		final ElementTracer tracer = this.elementTracer();
+		if(!metrics.enabled() && !tracer.enabled())
+		{
+			return this.waitStrategy().untilAsync(this.getWebDriver(), duration, isTrue, locator, this.asyncExecutor());
+		}
+		return this.measureWaitAsync(
+			metrics,
+			tracer,
+			locator,
+			isTrue,
+			counted -> this.waitStrategy()
+				.untilAsync(this.getWebDriver(), duration, counted, locator, this.asyncExecutor()));
+	}
+	
+	/**
+	 * @return the executor for asynchronous operations
+	 */
+	default Executor asyncExecutor()
+	{
+		return AsyncExecutorInstance.instance();
+	}
+	
+	/**
+	 * Records the duration and how often the condition was checked (poll count).
+	 */
+	private <V> V measureWait(
+		final ElementMetrics metrics,
+		final ElementTracer tracer,
+		final Object locator,
+		final Function<WebDriver, V> isTrue,
+		final Function<Function<WebDriver, V>, V> waiter)
+	{
+		return tracer.trace("CanFindElements.waitUntil", span -> {
+			span.setAttribute("locator", locator);
+			
+			final AtomicInteger iterations = new AtomicInteger();
+			final long start = System.nanoTime();
+			try
+			{
+				return waiter.apply(wd -> {
+					iterations.incrementAndGet();
+					return isTrue.apply(wd);
+				});
+			}
+			finally
+			{
+				span.setAttribute("poll.count", iterations.get());
+				metrics.recordWait(
+					locator != null ? "waitUntil " + locator : "waitUntil",
+					iterations.get(),
+					System.nanoTime() - start);
+			}
+		});
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #measureWait(ElementMetrics, ElementTracer, Object, Function, Function)}.
+	 * <p>
+	 * The measurements are recorded when the future completes. Cancelling the returned future also cancels the wait.
+	 * </p>
+	 */
+	private <V> CompletableFuture<V> measureWaitAsync(
+		final ElementMetrics metrics,
+		final ElementTracer tracer,
+		final Object locator,
+		final Function<WebDriver, V> isTrue,
+		final Function<Function<WebDriver, V>, CompletableFuture<V>> waiter)
+	{
+		// Ended by the thread that completes the future
+		final ElementSpan span = tracer.startDetachedSpan("CanFindElements.waitUntil");
+		span.setAttribute("locator", locator);
+		
+		final AtomicInteger iterations = new AtomicInteger();
+		final long start = System.nanoTime();
+		final CompletableFuture<V> future;
+		try
+		{
+			future = waiter.apply(wd -> {
+				iterations.incrementAndGet();
+				return isTrue.apply(wd);
+			});
+		}
+		catch(final RuntimeException ex)
+		{
+			span.recordException(ex);
+			span.end();
+			throw ex;
+		}
+		
+		// Completed after the measurements were recorded
+		final CompletableFuture<V> measured = new CompletableFuture<>();
+		future.whenComplete((value, ex) -> {
+			try
+			{
+				span.setAttribute("poll.count", iterations.get());
+				if(ex != null)
 				{
-					byToUse = by;
+					span.recordException(ex);
 				}
-				else if(additionalByPresent)
+				span.end();
+				metrics.recordWait(
+					locator != null ? "waitUntil " + locator : "waitUntil",
+					iterations.get(),
+					System.nanoTime() - start);
+			}
+			finally
+			{
+				if(ex != null)
 				{
-					byToUse = additionalAndBy;
+					measured.completeExceptionally(ex);
 				}
 				else
 				{
-					throw new IllegalStateException("No locator that is not null present");
+					measured.complete(value);
 				}
-				
-				return this.waitUntil(
-					wd -> this.determineSearchContext(wd).findElement(byToUse),
-					duration);
-			},
-			clazz);
+			}
+		});
+		measured.whenComplete((value, ex) -> {
+			if(measured.isCancelled())
+			{
+				future.cancel(false);
+			}
+		});
+		return measured;
 	}
 	
-	default ElementInstantiator elementProxyCreator()
+	default WaitStrategy waitStrategy()
 	{
-		return ElementInstantiatorInstance.instance();
+		return WaitStrategyInstance.instance();
 	}
 	
-	default <V> V waitUntil(final Function<WebDriver, V> isTrue)
+	/**
+	 * @return where measurements (e.g. of waits) are recorded
+	 */
+	default ElementMetrics elementMetrics()
 	{
-		return this.waitUntil(isTrue, DEFAULT_WAIT_UNTIL_DURATION);
+		return ElementMetricsInstance.instance();
 	}
 	
-	default <V> V waitUntil(final Function<WebDriver, V> isTrue, final Duration duration)
+	/**
+	 * @return where spans (e.g. of lookups and waits) are recorded
+	 */
+	default ElementTracer elementTracer()
 	{
-		return new WebDriverWait(this.getWebDriver(), duration).until(isTrue);
+		return ElementTracerInstance.instance();
 	}
 	
 	default <T extends WebElement> T waitForFirstByClassName(final Class<T> clazz, final String className)
@@ -154,14 +605,54 @@ public interface CanFindElements
 		throw new UnsupportedOperationException("WebDriver can't execute JS");
 	}
 	
-	default Object callFunction(final String methodName, final Object... args)
+	default Object executeAsyncScript(final String script, final Object... args)
 	{
-		final String paramPlaceholders = IntStream.range(0, args.length)
-			.mapToObj(i -> "arguments[" + (i + 1) + "]") // Offset by 1!
-			.collect(Collectors.joining(","));
+		if(this.getWebDriver() instanceof final JavascriptExecutor jsExecutor)
+		{
+			return jsExecutor.executeAsyncScript(script, args);
+		}
 		
+		throw new UnsupportedOperationException("WebDriver can't execute JS");
+	}
+	
+	/**
+	 * Reads multiple properties of multiple elements using a single script execution.
+	 * <p>
+	 * Waits once for the server load to finish (if the first element is backed by an
+	 * {@link ImprovedRemoteWebElement}). The elements are not scrolled into view.
+	 * </p>
+	 *
+	 * @param elements      the elements to read the properties from
+	 * @param propertyPaths the paths of the properties, e.g. <code>List.of(List.of("value"), List.of("dataset",
+	 *                      "id"))</code>
+	 * @return the values; one row per element and one column per property path
+	 */
+	default PropertyMatrix getProperties(
+		final List<? extends WebElement> elements,
+		final List<List<String>> propertyPaths)
+	{
+		if(elements.isEmpty())
+		{
+			return new PropertyMatrix(List.of());
+		}
+		final ImprovedRemoteWebElement remoteElement = ImprovedRemoteWebElement.unwrap(elements.get(0));
+		if(remoteElement != null)
+		{
+			remoteElement.waitForServerLoadToFinish();
+		}
+		
+		@SuppressWarnings("unchecked")
+		final List<List<Object>> values = (List<List<Object>>)this.executeScript(
+			ElementScripts.GET_PROPERTIES,
+			elements,
+			propertyPaths);
+		return new PropertyMatrix(values);
+	}
+	
+	default Object callFunction(final String methodName, final Object... args)
+	{
 		return this.executeScript(
-			"return arguments[0]." + methodName + "(" + paramPlaceholders + ")",
-			Stream.concat(Stream.of(this), Stream.of(args)).toArray(Object[]::new));
+			ElementScripts.CALL_FUNCTION,
+			ElementScripts.concatArgs(new Object[]{this, methodName}, args));
 	}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.util.Collection;
+
+import org.openqa.selenium.By;
+
+
+/**
+ * Translates {@link By locators} into CSS selectors and combines multiple CSS selectors into a single one that only
+ * matches elements that are matched by all of them.
+ * <p>
+ * Complex selectors (e.g. containing combinators like <code>div &gt; span</code>) are combined using the
+ * <code>:is()</code> pseudo-class.
+ * </p>
+ */
+public final class CssSelectorCombiner
+{
+	private static final char FIRST_NON_ASCII_CHAR = 0x80;
+	
+	/**
+	 * @return the CSS selector that is equivalent to the locator or <code>null</code> if the locator can't be
+	 * expressed in CSS (e.g. XPath or link text)
+	 */
+	public static String toCssSelector(final By by)
+	{
+		if(!(by instanceof final By.Remotable remotable))
+		{
+			return null;
+		}
+		
+		final By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+		if(!(parameters.value() instanceof final String value))
+		{
+			return null;
+		}
+		
+		return switch(parameters.using())
+		{
+			case "css selector" -> value;
+			case "id" -> "#" + escapeIdentifier(value);
+			case "class name" -> "." + escapeIdentifier(value);
+			case "name" -> "[name=" + quote(value) + "]";
+			case "tag name" -> escapeIdentifier(value);
+			default -> null;
+		};
+	}
+	
+	/**
+	 * Combines the selectors, e.g. <code>div</code>, <code>#abc</code> and <code>.cls</code> result in
+	 * <code>div#abc.cls</code>.
+	 */
+	public static String combine(final Collection<String> cssSelectors)
+	{
+		if(cssSelectors.size() == 1)
+		{
+			return cssSelectors.iterator().next();
+		}
+		
+		String typeSelector = null;
+		final StringBuilder sb = new StringBuilder();
+		for(final String cssSelector : cssSelectors)
+		{
+			final String trimmed = cssSelector.trim();
+			if(!isCompound(trimmed))
+			{
+				sb.append(":is(").append(trimmed).append(')');
+			}
+			else if(!startsWithTypeSelector(trimmed))
+			{
+				sb.append(trimmed);
+			}
+			else if(typeSelector == null)
+			{
+				typeSelector = trimmed;
+			}
+			else
+			{
+				sb.append(":is(").append(trimmed).append(')');
+			}
+		}
+		
+		return typeSelector != null
+			? typeSelector + sb
+			: sb.toString();
+	}
+	
+	/**
+	 * Checks if the selector is a single compound selector (without combinators or selector lists).
+	 */
+	static boolean isCompound(final String cssSelector)
+	{
+		if(cssSelector.isEmpty())
+		{
+			return false;
+		}
+		
+		int depth = 0;
+		char quote = 0;
+		for(int i = 0; i < cssSelector.length(); i++)
+		{
+			final char c = cssSelector.charAt(i);
+			if(c == '\\')
+			{
+				i++; // Skip escaped char
+			}
+			else if(quote != 0)
+			{
+				if(c == quote)
+				{
+					quote = 0;
+				}
+			}
+			else if(c == '"' || c == '\'')
+			{
+				quote = c;
+			}
+			else if(c == '[' || c == '(')
+			{
+				depth++;
+			}
+			else if(c == ']' || c == ')')
+			{
+				depth--;
+			}
+			else if(depth == 0 && (Character.isWhitespace(c) || c == ',' || c == '>' || c == '+' || c == '~'))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	static boolean startsWithTypeSelector(final String cssSelector)
+	{
+		final char c = cssSelector.charAt(0);
+		return c == '*' || c == '|' || c == '\\' || c == '-' || c == '_'
+			|| c >= FIRST_NON_ASCII_CHAR
+			|| Character.isLetter(c);
+	}
+	
+	/**
+	 * Escapes the value so that it can be used as CSS identifier.
+	 *
+	 * @see <a href="https://drafts.csswg.org/cssom/#serialize-an-identifier">CSSOM - serialize an identifier</a>
+	 */
+	@SuppressWarnings("checkstyle:MagicNumber")
+	public static String escapeIdentifier(final String value)
+	{
+		final StringBuilder sb = new StringBuilder(value.length());
+		for(int i = 0; i < value.length(); i++)
+		{
+			final char c = value.charAt(i);
+			if(c == 0)
+			{
+				sb.append('\uFFFD');
+			}
+			else if(c <= 0x1F || c == 0x7F
+				|| i == 0 && Character.isDigit(c)
+				|| i == 1 && Character.isDigit(c) && value.charAt(0) == '-')
+			{
+				sb.append('\\').append(Integer.toHexString(c)).append(' ');
+			}
+			else if(i == 0 && c == '-' && value.length() == 1)
+			{
+				sb.append("\\-");
+			}
+			else if(c >= FIRST_NON_ASCII_CHAR || c == '-' || c == '_' || c >= '0' && c <= '9' || c >= 'a' && c <= 'z'
+				|| c >= 'A' && c <= 'Z')
+			{
+				sb.append(c);
+			}
+			else
+			{
+				sb.append('\\').append(c);
+			}
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Quotes the value so that it can be used as CSS string, e.g. inside an attribute selector.
+	 */
+	public static String quote(final String value)
+	{
+		return "'"
+			+ value.replace("\\", "\\\\")
+			.replace("'", "\\'")
+			.replace("\n", "\\a ")
+			.replace("\r", "\\d ")
+			+ "'";
+	}
+	
+	private CssSelectorCombiner()
+	{
+	}
+}
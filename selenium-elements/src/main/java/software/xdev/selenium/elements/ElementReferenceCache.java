@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+
+/**
+ * Caches found elements per search context and locator so that repeated lookups inside an unchanged DOM don't
+ * need to search again.
+ * <p>
+ * A MutationObserver is installed in the page that counts all DOM changes. All cached elements are discarded when
+ * this count changes or when a new page is loaded. By default the count is re-read on each lookup.
+ * </p>
+ * <p>
+ * A {@link #domVersionMaxAge} can be configured so that lookups within this time are served without any call to
+ * the driver. Changes of the DOM within this time (e.g. caused by a click) are then only detected when
+ * {@link #invalidatingListener()} is registered using an
+ * {@link org.openqa.selenium.support.events.EventFiringDecorator}, which discards the elements on navigation and
+ * interactions.
+ * </p>
+ * <p>
+ * A cache should only be used for a single driver. The least recently used elements are discarded when the cache
+ * exceeds its {@link #maxSize}.
+ * </p>
+ * <p>
+ * This is opt-in, see {@link CanFindElements#elementReferenceCache()}.
+ * </p>
+ */
+public class ElementReferenceCache
+{
+	public static final int DEFAULT_MAX_SIZE = 256;
+	public static final Duration DEFAULT_DOM_VERSION_MAX_AGE = Duration.ZERO;
+	
+	private static final int INITIAL_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75f;
+	
+	/**
+	 * Returns <code>&lt;page id&gt;:&lt;DOM change count&gt;</code>; installs the observer when required.
+	 */
+	protected static final String DOM_VERSION_SCRIPT = "var s = window.__xdevSeleniumElementsDomVersion;"
+		+ "if (!s) {"
+		+ "s = window.__xdevSeleniumElementsDomVersion = {id: Math.random().toString(36).slice(2), v: 0};"
+		+ "new MutationObserver(function() { s.v++; }).observe(document, "
+		+ "{childList: true, subtree: true, attributes: true, characterData: true});"
+		+ "}"
+		+ "return s.id + ':' + s.v;";
+	
+	protected final int maxSize;
+	protected final Duration domVersionMaxAge;
+	
+	protected final Map<Key, WebElement> elements;
+	protected String domVersion;
+	protected long domVersionCheckedAtNanos;
+	
+	public ElementReferenceCache()
+	{
+		this(DEFAULT_MAX_SIZE, DEFAULT_DOM_VERSION_MAX_AGE);
+	}
+	
+	/**
+	 * @param maxSize          the maximum amount of cached elements
+	 * @param domVersionMaxAge how long the DOM change count is trusted before it's re-read from the page
+	 */
+	public ElementReferenceCache(final int maxSize, final Duration domVersionMaxAge)
+	{
+		this.maxSize = maxSize;
+		this.domVersionMaxAge = domVersionMaxAge;
+		this.elements = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, WebElement> eldest)
+			{
+				return this.size() > ElementReferenceCache.this.maxSize;
+			}
+		};
+	}
+	
+	/**
+	 * Returns the cached element or looks it up (and caches it) if there is none or the DOM has changed.
+	 */
+	public WebElement computeIfAbsent(
+		final WebDriver webDriver,
+		final SearchContext searchContext,
+		final By by,
+		final Supplier<WebElement> lookup)
+	{
+		this.validate(webDriver);
+		
+		final Key key = new Key(searchContext, by);
+		synchronized(this)
+		{
+			final WebElement cached = this.elements.get(key);
+			if(cached != null)
+			{
+				return cached;
+			}
+		}
+		
+		final WebElement found = lookup.get();
+		if(found != null)
+		{
+			synchronized(this)
+			{
+				this.elements.put(key, found);
+			}
+		}
+		return found;
+	}
+	
+	protected void validate(final WebDriver webDriver)
+	{
+		synchronized(this)
+		{
+			if(this.domVersion != null
+				&& System.nanoTime() - this.domVersionCheckedAtNanos < this.domVersionMaxAge.toNanos())
+			{
+				return;
+			}
+		}
+		
+		String currentDomVersion = null;
+		if(webDriver instanceof final JavascriptExecutor jsExecutor)
+		{
+			try
+			{
+				currentDomVersion = (String)jsExecutor.executeScript(DOM_VERSION_SCRIPT);
+			}
+			catch(final WebDriverException ignored)
+			{
+				// e.g. no page loaded -> nothing can be cached
+			}
+		}
+		
+		synchronized(this)
+		{
+			if(currentDomVersion == null || !currentDomVersion.equals(this.domVersion))
+			{
+				this.elements.clear();
+			}
+			this.domVersion = currentDomVersion;
+			this.domVersionCheckedAtNanos = System.nanoTime();
+		}
+	}
+	
+	public synchronized void invalidate()
+	{
+		this.elements.clear();
+		this.domVersion = null;
+	}
+	
+	public synchronized int size()
+	{
+		return this.elements.size();
+	}
+	
+	/**
+	 * Creates a listener that invalidates the cache on navigation, window/frame switches and element interactions.
+	 */
+	public WebDriverListener invalidatingListener()
+	{
+		return new InvalidatingWebDriverListener(this::invalidate);
+	}
+	
+	protected record Key(SearchContext searchContext, By by)
+	{
+		// The search context is compared by identity as e.g. element proxies don't implement equals
+		@Override
+		public boolean equals(final Object o)
+		{
+			return o instanceof final Key other
+				&& this.searchContext == other.searchContext
+				&& this.by.equals(other.by);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return 31 * System.identityHashCode(this.searchContext) + this.by.hashCode();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+/**
+ * JavaScript snippets that are used for interacting with elements.
+ * <p>
+ * All scripts are constant (their parameters are passed as arguments) so that they don't need to be built for each
+ * call.
+ * </p>
+ */
+public final class ElementScripts
+{
+	/**
+	 * Arguments: object, property names (path)...
+	 */
+	public static final String GET_PROPERTY = "var value = arguments[0];"
+		+ "for (var i = 1; i < arguments.length && typeof value != 'undefined'; i++) value = value[arguments[i]];"
+		+ "return value;";
+	
+	/**
+	 * Arguments: elements, property paths
+	 */
+	public static final String GET_PROPERTIES = "var paths = arguments[1];"
+		+ "return arguments[0].map(function(e) {"
+		+ "return paths.map(function(path) {"
+		+ "var value = e;"
+		+ "for (var i = 0; i < path.length && value != null; i++) value = value[path[i]];"
+		+ "return value;"
+		+ "}); });";
+	
+	/**
+	 * Arguments: object, function name, function arguments...
+	 */
+	public static final String CALL_FUNCTION = "var target = arguments[0];"
+		+ "return target[arguments[1]].apply(target, Array.prototype.slice.call(arguments, 2));";
+	
+	/**
+	 * Arguments: root element (<code>null</code> = document), CSS selectors
+	 * <p>
+	 * Returns <code>[index of the selector, element]</code> for the first selector that matches or <code>null</code>.
+	 * </p>
+	 */
+	public static final String FIND_FIRST_OF = "var root = arguments[0] || document;"
+		+ "var selectors = arguments[1];"
+		+ "for (var i = 0; i < selectors.length; i++) {"
+		+ "var e = root.querySelector(selectors[i]);"
+		+ "if (e) return [i, e];"
+		+ "}"
+		+ "return null;";
+	
+	/**
+	 * @return a new array that contains the prefix followed by the args
+	 */
+	public static Object[] concatArgs(final Object[] prefix, final Object[] args)
+	{
+		final Object[] result = new Object[prefix.length + args.length];
+		System.arraycopy(prefix, 0, result, 0, prefix.length);
+		System.arraycopy(args, 0, result, prefix.length, args.length);
+		return result;
+	}
+	
+	private ElementScripts()
+	{
+	}
+}
@@ -16,12 +16,11 @@
 package software.xdev.selenium.elements;
 
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.WrapsElement;
 
 import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
@@ -34,31 +33,91 @@ import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
  *     <li>Can use a custom search context</li>
  * </ul>
  *
- * @apiNote Requires a underlying {@link ImprovedRemoteWebElement}
+ * @apiNote Works best with an underlying {@link ImprovedRemoteWebElement} - otherwise e.g. no waiting for the server
+ * load is done
  */
 public interface ImprovedWebElement extends WebElement, CanFindElementsSelfSearchContext, WrapsElement
 {
 	default void performJsClick()
 	{
-		this.getWrappedRemoteElement().performJsClick();
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		if(remoteElement != null)
+		{
+			remoteElement.performJsClick();
+			return;
+		}
+		this.executeScript("arguments[0].click();", this);
 	}
 	
 	default void nativeClick()
 	{
-		this.getWrappedRemoteElement().nativeClick();
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		if(remoteElement != null)
+		{
+			remoteElement.nativeClick();
+			return;
+		}
+		this.getWrappedElement().click();
 	}
 	
 	@Override
 	default WebDriver getWebDriver()
 	{
-		return this.getWrappedRemoteElement().getWrappedDriver();
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		if(remoteElement != null)
+		{
+			return remoteElement.getWrappedDriver();
+		}
+		if(this.getWrappedElement() instanceof final WrapsDriver wrapsDriver)
+		{
+			return wrapsDriver.getWrappedDriver();
+		}
+		throw new UnsupportedOperationException("Unable to determine the WebDriver of " + this.getWrappedElement());
 	}
 	
+	// Execute through the underlying element so that e.g. commands are properly counted
+	@Override
+	default Object executeScript(final String script, final Object... args)
+	{
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		return remoteElement != null
+			? remoteElement.executeScript(script, args)
+			: CanFindElementsSelfSearchContext.super.executeScript(script, args);
+	}
+	
+	@Override
+	default Object executeAsyncScript(final String script, final Object... args)
+	{
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		return remoteElement != null
+			? remoteElement.executeAsyncScript(script, args)
+			: CanFindElementsSelfSearchContext.super.executeAsyncScript(script, args);
+	}
+	
+	/**
+	 * @return the underlying {@link ImprovedRemoteWebElement} or <code>null</code> if there is none (e.g. when a
+	 * different driver is used)
+	 * @implNote The built-in instantiators resolve this once when the element is created
+	 */
 	default ImprovedRemoteWebElement getWrappedRemoteElement()
 	{
-		return this.getWrappedElement() instanceof final ImprovedRemoteWebElement improvedRemoteWebElement
-			? improvedRemoteWebElement
-			: null;
+		return ImprovedRemoteWebElement.unwrap(this.getWrappedElement());
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #click()} that runs on the {@link #asyncExecutor()}.
+	 */
+	default CompletableFuture<Void> clickAsync()
+	{
+		return CompletableFuture.runAsync(this::click, this.asyncExecutor());
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #getProperty(String...)} that runs on the {@link #asyncExecutor()}.
+	 */
+	default CompletableFuture<Object> getPropertyAsync(final String... propertyNames)
+	{
+		return CompletableFuture.supplyAsync(() -> this.getProperty(propertyNames), this.asyncExecutor());
 	}
 	
 	default Object getProperty(final String... propertyNames)
@@ -66,32 +125,29 @@ public interface ImprovedWebElement extends WebElement, CanFindElementsSelfSearc
 		this.prepareForOperation();
 		
 		return this.executeScript(
-			"var value = arguments[0];"
-				+ IntStream.range(0, propertyNames.length)
-				.mapToObj(i -> "if (typeof value != 'undefined') value = value[arguments[" + (i + 1) + "]];")
-				.collect(Collectors.joining())
-				+ "return value;",
-			Stream.concat(Stream.of(this), Stream.of(propertyNames)).toArray());
+			ElementScripts.GET_PROPERTY,
+			ElementScripts.concatArgs(new Object[]{this}, propertyNames));
 	}
 	
 	default String getStringProperty(final String... propertyNames)
 	{
-		return this.getProperty(propertyNames) instanceof final String c ? c : null;
+		return PropertyValues.asString(this.getProperty(propertyNames));
 	}
 	
 	default Integer getIntProperty(final String... propertyNames)
 	{
-		return this.getProperty(propertyNames) instanceof final Number c ? c.intValue() : null;
+		return PropertyValues.asInteger(this.getProperty(propertyNames));
 	}
 	
 	default Boolean getBoolProperty(final String... propertyNames)
 	{
-		return this.getProperty(propertyNames) instanceof final Boolean c ? c : null;
+		return PropertyValues.asBoolean(this.getProperty(propertyNames));
 	}
 	
 	default void setProperty(final String name, final Object value)
 	{
 		this.executeScript("arguments[0][arguments[1]]=arguments[2]", this, name, value);
+		this.invalidateServerLoadFinished();
 	}
 	
 	default void dispatchCustomEvent(
@@ -103,6 +159,7 @@ public interface ImprovedWebElement extends WebElement, CanFindElementsSelfSearc
 			this,
 			type,
 			options);
+		this.invalidateServerLoadFinished();
 	}
 	
 	default boolean hasAttribute(final String attribute)
@@ -113,6 +170,19 @@ public interface ImprovedWebElement extends WebElement, CanFindElementsSelfSearc
 	
 	default void prepareForOperation()
 	{
-		this.getWrappedRemoteElement().prepareForOperation();
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		if(remoteElement != null)
+		{
+			remoteElement.prepareForOperation();
+		}
+	}
+	
+	default void invalidateServerLoadFinished()
+	{
+		final ImprovedRemoteWebElement remoteElement = this.getWrappedRemoteElement();
+		if(remoteElement != null)
+		{
+			remoteElement.invalidateServerLoadFinished();
+		}
 	}
 }
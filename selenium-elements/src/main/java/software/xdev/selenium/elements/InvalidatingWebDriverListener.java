@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+
+/**
+ * {@link WebDriverListener} that executes the invalidation on navigation, window/frame switches, alerts and element
+ * interactions, i.e. on operations that might change the page.
+ *
+ * @see ElementReferenceCache#invalidatingListener()
+ * @see software.xdev.selenium.elements.remote.ServerLoadFinishedCache#invalidatingListener(WebDriver)
+ */
+public class InvalidatingWebDriverListener implements WebDriverListener
+{
+	private final Runnable invalidation;
+	
+	public InvalidatingWebDriverListener(final Runnable invalidation)
+	{
+		this.invalidation = invalidation;
+	}
+	
+	protected void invalidate()
+	{
+		this.invalidation.run();
+	}
+	
+	@Override
+	public void afterGet(final WebDriver driver, final String url)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterAnyNavigationCall(
+		final WebDriver.Navigation navigation,
+		final Method method,
+		final Object[] args,
+		final Object result)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterAnyTargetLocatorCall(
+		final WebDriver.TargetLocator targetLocator,
+		final Method method,
+		final Object[] args,
+		final Object result)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterAnyAlertCall(
+		final Alert alert,
+		final Method method,
+		final Object[] args,
+		final Object result)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterClick(final WebElement element)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterSubmit(final WebElement element)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterSendKeys(final WebElement element, final CharSequence... keysToSend)
+	{
+		this.invalidate();
+	}
+	
+	@Override
+	public void afterClear(final WebElement element)
+	{
+		this.invalidate();
+	}
+}
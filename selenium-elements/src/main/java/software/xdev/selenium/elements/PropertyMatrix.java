@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.util.List;
+
+
+/**
+ * Property values of multiple elements.
+ * <p>
+ * Each row represents an element and each column a property path (in the order they were requested).
+ * </p>
+ *
+ * @see CanFindElements#getProperties(List, List)
+ */
+public record PropertyMatrix(List<List<Object>> values)
+{
+	public Object get(final int element, final int property)
+	{
+		return this.values.get(element).get(property);
+	}
+	
+	public String getString(final int element, final int property)
+	{
+		return PropertyValues.asString(this.get(element, property));
+	}
+	
+	public Integer getInt(final int element, final int property)
+	{
+		return PropertyValues.asInteger(this.get(element, property));
+	}
+	
+	public Boolean getBool(final int element, final int property)
+	{
+		return PropertyValues.asBoolean(this.get(element, property));
+	}
+	
+	public List<Object> row(final int element)
+	{
+		return this.values.get(element);
+	}
+	
+	public int size()
+	{
+		return this.values.size();
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+/**
+ * Converts property values returned by JavaScript into Java types.
+ */
+public final class PropertyValues
+{
+	public static String asString(final Object value)
+	{
+		return value instanceof final String c ? c : null;
+	}
+	
+	public static Integer asInteger(final Object value)
+	{
+		return value instanceof final Number c ? c.intValue() : null;
+	}
+	
+	public static Boolean asBoolean(final Object value)
+	{
+		return value instanceof final Boolean c ? c : null;
+	}
+	
+	private PropertyValues()
+	{
+	}
+}
@@ -21,4 +21,17 @@ import org.openqa.selenium.By;
 public interface AnnotationSelectorBuilder
 {
 	By build(Object annotation);
+	
+	/**
+	 * Determines if this builder can be reused and the {@link By selectors} it builds can be cached per element
+	 * class.
+	 * <p>
+	 * Builders that create different selectors for the same annotation (e.g. depending on some external state)
+	 * should return <code>false</code>.
+	 * </p>
+	 */
+	default boolean cacheable()
+	{
+		return true;
+	}
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import org.openqa.selenium.By;
 
 import software.xdev.selenium.elements.ByAnd;
+import software.xdev.selenium.elements.CssSelectorCombiner;
 
 
 /**
@@ -111,9 +112,34 @@ public @interface FindBySelector
 				bys.add(By.tagName(selector.tagName()));
 			}
 			
-			return !bys.isEmpty()
-				? new ByAnd(bys.toArray(By[]::new))
-				: null;
+			return this.combine(bys);
+		}
+		
+		/**
+		 * Combines the locators into a single one.
+		 * <p>
+		 * If all locators can be expressed in CSS a single {@link By#cssSelector(String)} is returned, so that only
+		 * one lookup is required. Otherwise a {@link ByAnd} is used.
+		 * </p>
+		 */
+		protected By combine(final List<By> bys)
+		{
+			if(bys.isEmpty())
+			{
+				return null;
+			}
+			
+			final List<String> cssSelectors = bys.stream()
+				.map(CssSelectorCombiner::toCssSelector)
+				.toList();
+			if(!cssSelectors.contains(null))
+			{
+				return By.cssSelector(CssSelectorCombiner.combine(cssSelectors));
+			}
+			
+			return bys.size() == 1
+				? bys.get(0)
+				: ByAnd.combining(bys.toArray(By[]::new));
 		}
 	}
 }
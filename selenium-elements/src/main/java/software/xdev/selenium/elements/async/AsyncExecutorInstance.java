@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Provides the {@link Executor} that runs the asynchronous element operations (e.g.
+ * {@link software.xdev.selenium.elements.CanFindElements#waitForFirstAsync(Class)}).
+ * <p>
+ * If no instance is set a virtual thread per task executor is used when the runtime supports virtual threads
+ * (Java 21+), otherwise a cached pool of daemon threads.
+ * </p>
+ */
+public final class AsyncExecutorInstance
+{
+	private static volatile Executor instance;
+	
+	public static Executor instance()
+	{
+		final Executor globalInstance = instance;
+		return globalInstance != null
+			? globalInstance
+			: DefaultHolder.INSTANCE;
+	}
+	
+	/**
+	 * Sets the global instance. <code>null</code> restores the default instance.
+	 */
+	public static void setInstance(final Executor instance)
+	{
+		AsyncExecutorInstance.instance = instance;
+	}
+	
+	/**
+	 * @return if the default executor uses virtual threads
+	 */
+	public static boolean defaultUsesVirtualThreads()
+	{
+		return DefaultHolder.VIRTUAL_THREADS;
+	}
+	
+	// Initialized on first access; the JVM guarantees safe publication
+	private static final class DefaultHolder
+	{
+		static final ExecutorService VIRTUAL_THREAD_EXECUTOR = createVirtualThreadExecutor();
+		static final boolean VIRTUAL_THREADS = VIRTUAL_THREAD_EXECUTOR != null;
+		static final Executor INSTANCE = VIRTUAL_THREADS
+			? VIRTUAL_THREAD_EXECUTOR
+			: Executors.newCachedThreadPool(new DaemonThreadFactory());
+		
+		// Compiled against Java 17 -> resolve reflectively
+		@SuppressWarnings("PMD.AvoidCatchingGenericException")
+		private static ExecutorService createVirtualThreadExecutor()
+		{
+			try
+			{
+				return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch(final NoSuchMethodException ignored)
+			{
+				return null;
+			}
+			catch(final ReflectiveOperationException | RuntimeException ex)
+			{
+				LoggerFactory.getLogger(AsyncExecutorInstance.class)
+					.debug("Failed to create virtual thread executor - using platform threads", ex);
+				return null;
+			}
+		}
+	}
+	
+	static final class DaemonThreadFactory implements ThreadFactory
+	{
+		private final AtomicInteger counter = new AtomicInteger();
+		
+		@Override
+		public Thread newThread(final Runnable r)
+		{
+			final Thread thread = new Thread(r, "selenium-elements-async-" + this.counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
+	private AsyncExecutorInstance()
+	{
+	}
+}
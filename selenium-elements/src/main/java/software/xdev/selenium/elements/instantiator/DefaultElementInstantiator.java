@@ -15,6 +15,7 @@
  */
 package software.xdev.selenium.elements.instantiator;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -26,13 +27,63 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WrapsElement;
 import org.openqa.selenium.interactions.Locatable;
 
+import javassist.util.proxy.MethodHandler;
+import javassist.util.proxy.Proxy;
 import javassist.util.proxy.ProxyFactory;
+import software.xdev.selenium.elements.ImprovedWebElement;
 import software.xdev.selenium.elements.annotation.AnnotationSelectorBuilder;
 import software.xdev.selenium.elements.annotation.FindBySelector;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+import software.xdev.selenium.elements.tracing.ElementTracer;
+import software.xdev.selenium.elements.tracing.ElementTracerInstance;
 
 
 public class DefaultElementInstantiator implements ElementInstantiator
 {
+	protected static final Method M_GET_WRAPPED_ELEMENT = resolveMethod(WrapsElement.class, "getWrappedElement");
+	protected static final Method M_GET_WRAPPED_REMOTE_ELEMENT =
+		resolveMethod(ImprovedWebElement.class, "getWrappedRemoteElement");
+	
+	/**
+	 * {@link By Selectors} per element class.
+	 * <p>
+	 * Uses a {@link ClassValue} so that the entries don't prevent the element classes (and their class loaders)
+	 * from being unloaded.
+	 * </p>
+	 */
+	protected final ClassValue<CachedSelector> selectors = new ClassValue<>()
+	{
+		@Override
+		protected CachedSelector computeValue(final Class<?> type)
+		{
+			return DefaultElementInstantiator.this.createCachedSelector(type);
+		}
+	};
+	
+	/**
+	 * Reusable {@link AnnotationSelectorBuilder} instances per builder class.
+	 */
+	protected final ClassValue<AnnotationSelectorBuilder> selectorBuilders = new ClassValue<>()
+	{
+		@Override
+		protected AnnotationSelectorBuilder computeValue(final Class<?> type)
+		{
+			return DefaultElementInstantiator.this.createSelectorBuilder(type);
+		}
+	};
+	
+	/**
+	 * Generated proxy classes per element class.
+	 */
+	protected final ClassValue<ProxyTemplate> proxyTemplates = new ClassValue<>()
+	{
+		@Override
+		protected ProxyTemplate computeValue(final Class<?> type)
+		{
+			return DefaultElementInstantiator.this.createProxyTemplate(type);
+		}
+	};
+	
 	@Override
 	public <T extends WebElement> T find(final SearchContext searchContext, final Class<T> clazz)
 	{
@@ -50,7 +101,31 @@ public class DefaultElementInstantiator implements ElementInstantiator
 		final Function<By, WebElement> search,
 		final Class<T> clazz)
 	{
-		return this.proxyWebElement(clazz, search.apply(this.buildSelector(clazz)));
+		final ElementTracer tracer = ElementTracerInstance.instance();
+		if(!tracer.enabled())
+		{
+			return this.findAndCreate(search, this.buildSelector(clazz), clazz);
+		}
+		return tracer.trace("ElementInstantiator.find", span -> {
+			final By by = this.buildSelector(clazz);
+			span.setAttribute("element.class", clazz)
+				.setAttribute("locator", by);
+			return this.findAndCreate(search, by, clazz);
+		});
+	}
+	
+	/**
+	 * Searches the element using the selector and creates the element of the given class for it.
+	 * <p>
+	 * Subclasses may override this e.g. to remember how the element was found.
+	 * </p>
+	 */
+	protected <T extends WebElement> T findAndCreate(
+		final Function<By, WebElement> search,
+		final By by,
+		final Class<T> clazz)
+	{
+		return this.proxyWebElement(clazz, search.apply(by));
 	}
 	
 	@Override
@@ -58,15 +133,57 @@ public class DefaultElementInstantiator implements ElementInstantiator
 		final Function<By, List<WebElement>> search,
 		final Class<T> clazz)
 	{
-		final List<WebElement> elements = search.apply(this.buildSelector(clazz));
-		
-		return elements.stream()
-			.map(webElement -> this.proxyWebElement(clazz, webElement))
-			.toList();
+		final ElementTracer tracer = ElementTracerInstance.instance();
+		if(!tracer.enabled())
+		{
+			return this.createLazyElementList(search.apply(this.buildSelector(clazz)), clazz);
+		}
+		return tracer.trace("ElementInstantiator.findAll", span -> {
+			final By by = this.buildSelector(clazz);
+			span.setAttribute("element.class", clazz)
+				.setAttribute("locator", by);
+			
+			final List<WebElement> webElements = search.apply(by);
+			span.setAttribute("element.count", webElements.size());
+			return this.createLazyElementList(webElements, clazz);
+		});
+	}
+	
+	protected <T extends WebElement> List<T> createLazyElementList(
+		final List<WebElement> webElements,
+		final Class<T> clazz)
+	{
+		return new LazyElementList<>(webElements, webElement -> this.proxyWebElement(clazz, webElement));
 	}
 	
 	@Override
 	public <T extends WebElement> By buildSelector(final Class<T> clazz)
+	{
+		final CachedSelector cachedSelector = this.selectors.get(clazz);
+		return cachedSelector.cacheable()
+			? cachedSelector.by()
+			: this.createSelector(clazz);
+	}
+	
+	protected CachedSelector createCachedSelector(final Class<?> clazz)
+	{
+		final AnnotationSelectorBuilder annotationSelectorBuilder = this.selectorBuilderFor(clazz);
+		if(annotationSelectorBuilder != null && !annotationSelectorBuilder.cacheable())
+		{
+			return new CachedSelector(null, false);
+		}
+		return new CachedSelector(this.createSelector(clazz), true);
+	}
+	
+	protected By createSelector(final Class<?> clazz)
+	{
+		final AnnotationSelectorBuilder annotationSelectorBuilder = this.selectorBuilderFor(clazz);
+		return annotationSelectorBuilder != null
+			? annotationSelectorBuilder.build(clazz.getAnnotation(FindBySelector.class))
+			: null;
+	}
+	
+	protected AnnotationSelectorBuilder selectorBuilderFor(final Class<?> clazz)
 	{
 		final FindBySelector selector = clazz.getAnnotation(FindBySelector.class);
 		if(selector == null)
@@ -79,10 +196,17 @@ public class DefaultElementInstantiator implements ElementInstantiator
 			return null;
 		}
 		
-		final AnnotationSelectorBuilder annotationSelectorBuilder;
+		final AnnotationSelectorBuilder cachedBuilder = this.selectorBuilders.get(builder);
+		return cachedBuilder.cacheable()
+			? cachedBuilder
+			: this.createSelectorBuilder(builder);
+	}
+	
+	protected AnnotationSelectorBuilder createSelectorBuilder(final Class<?> builder)
+	{
 		try
 		{
-			annotationSelectorBuilder = builder.getConstructor().newInstance();
+			return (AnnotationSelectorBuilder)builder.getConstructor().newInstance();
 		}
 		catch(final InstantiationException
 					| IllegalAccessException
@@ -91,37 +215,25 @@ public class DefaultElementInstantiator implements ElementInstantiator
 		{
 			throw new IllegalStateException("Failed to create selector builder", e);
 		}
-		
-		return annotationSelectorBuilder.build(selector);
 	}
 	
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T extends WebElement> T proxyWebElement(final Class<T> clazz, final WebElement webElement)
 	{
-		final ProxyFactory factory = new ProxyFactory();
-		factory.setSuperclass(clazz);
-		factory.setInterfaces(new Class[]{WrapsElement.class, Locatable.class});
+		return this.proxyWebElement(clazz, this.createMethodHandler(webElement));
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected <T extends WebElement> T proxyWebElement(final Class<T> clazz, final MethodHandler methodHandler)
+	{
+		final ProxyTemplate template = this.proxyTemplates.get(clazz);
 		try
 		{
-			final Method mGetWrappedElement = WrapsElement.class.getMethod("getWrappedElement");
-			return (T)factory.create(
-				new Class[0],
-				new Object[0],
-				(self, thisMethod, proceed, args) -> {
-					if(mGetWrappedElement.equals(thisMethod))
-					{
-						return webElement;
-					}
-					if(proceed != null)
-					{
-						return this.invokeMethodWithProperExceptionHandling(proceed, self, args);
-					}
-					return this.invokeMethodWithProperExceptionHandling(thisMethod, webElement, args);
-				});
-		}
-		catch(final NoSuchMethodException
-					| InstantiationException
+			final Proxy proxy = (Proxy)template.constructor().newInstance();
+			proxy.setHandler(methodHandler);
+			return (T)proxy;
+		}
+		catch(final InstantiationException
 					| IllegalAccessException
 					| InvocationTargetException e)
 		{
@@ -129,6 +241,50 @@ public class DefaultElementInstantiator implements ElementInstantiator
 		}
 	}
 	
+	/**
+	 * Generates the proxy class for the given element class.
+	 * <p>
+	 * This is only called once per element class, the result is cached inside {@link #proxyTemplates}.
+	 * </p>
+	 */
+	protected ProxyTemplate createProxyTemplate(final Class<?> clazz)
+	{
+		final ProxyFactory factory = new ProxyFactory();
+		factory.setSuperclass(clazz);
+		factory.setInterfaces(new Class[]{WrapsElement.class, Locatable.class});
+		// Overriding finalize would register every proxy instance with the finalizer
+		factory.setFilter(m -> !"finalize".equals(m.getName()) || m.getParameterCount() != 0);
+		try
+		{
+			return new ProxyTemplate(factory.createClass().getDeclaredConstructor());
+		}
+		catch(final NoSuchMethodException e)
+		{
+			throw new IllegalStateException("Failed to create proxy class", e);
+		}
+	}
+	
+	protected MethodHandler createMethodHandler(final WebElement webElement)
+	{
+		// Resolve once instead of on each call
+		final ImprovedRemoteWebElement remoteElement = ImprovedRemoteWebElement.unwrap(webElement);
+		return (self, thisMethod, proceed, args) -> {
+			if(M_GET_WRAPPED_ELEMENT.equals(thisMethod))
+			{
+				return webElement;
+			}
+			if(M_GET_WRAPPED_REMOTE_ELEMENT.equals(thisMethod))
+			{
+				return remoteElement;
+			}
+			if(proceed != null)
+			{
+				return this.invokeMethodWithProperExceptionHandling(proceed, self, args);
+			}
+			return this.invokeMethodWithProperExceptionHandling(thisMethod, webElement, args);
+		};
+	}
+	
 	@SuppressWarnings("PMD.PreserveStackTrace")
 	protected Object invokeMethodWithProperExceptionHandling(
 		final Method method,
@@ -158,4 +314,31 @@ public class DefaultElementInstantiator implements ElementInstantiator
 				"Failed to access method '" + method.getName() + "' on " + obj.getClass(), ex);
 		}
 	}
+	
+	private static Method resolveMethod(final Class<?> clazz, final String name)
+	{
+		try
+		{
+			return clazz.getMethod(name);
+		}
+		catch(final NoSuchMethodException e)
+		{
+			throw new IllegalStateException("Failed to resolve " + name, e);
+		}
+	}
+	
+	/**
+	 * @param by        the selector; only valid when <code>cacheable</code> is <code>true</code>
+	 * @param cacheable if the selector can be reused
+	 */
+	protected record CachedSelector(By by, boolean cacheable)
+	{
+	}
+	
+	/**
+	 * Everything that is required to create a new proxy instance without generating any bytecode.
+	 */
+	protected record ProxyTemplate(Constructor<?> constructor)
+	{
+	}
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+/**
+ * {@link ElementInstantiator} that generates a subclass for each element class which directly delegates all
+ * abstract methods to the wrapped {@link WebElement}.
+ * <p>
+ * In contrast to {@link DefaultElementInstantiator} no reflection is involved when calling a method on the created
+ * elements. Exceptions thrown by the wrapped element are therefore also rethrown without any wrapping.
+ * </p>
+ * <p>
+ * If no subclass can be generated for an element class (e.g. because it has no accessible no-args constructor),
+ * the {@link DefaultElementInstantiator proxy based approach} is used for it.
+ * </p>
+ * <p>
+ * This is opt-in, e.g. using
+ * <code>ElementInstantiatorInstance.setInstance(new DelegatingElementInstantiator())</code>.
+ * </p>
+ */
+public class DelegatingElementInstantiator extends DefaultElementInstantiator
+{
+	private static final Logger LOG = LoggerFactory.getLogger(DelegatingElementInstantiator.class);
+	
+	protected static final AtomicLong GENERATED_CLASS_COUNTER = new AtomicLong();
+	
+	/**
+	 * Constructors - with a single {@link WebElement} parameter - of the generated subclasses per element class.
+	 * Empty if no subclass could be generated.
+	 * <p>
+	 * Shared by all instances so that the subclasses are only generated (and defined) once per element class.
+	 * </p>
+	 */
+	protected static final ClassValue<Optional<Constructor<?>>> DELEGATING_CONSTRUCTORS = new ClassValue<>()
+	{
+		@Override
+		protected Optional<Constructor<?>> computeValue(final Class<?> type)
+		{
+			return Optional.ofNullable(createDelegatingConstructor(type));
+		}
+	};
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends WebElement> T proxyWebElement(final Class<T> clazz, final WebElement webElement)
+	{
+		final Constructor<?> constructor = this.delegatingConstructor(clazz);
+		if(constructor == null)
+		{
+			return super.proxyWebElement(clazz, webElement);
+		}
+		
+		try
+		{
+			return (T)constructor.newInstance(webElement);
+		}
+		catch(final InstantiationException
+					| IllegalAccessException
+					| InvocationTargetException e)
+		{
+			throw new IllegalStateException("Failed to create delegating element", e);
+		}
+	}
+	
+	/**
+	 * @return the constructor of the delegating subclass for the given element class or <code>null</code> if the
+	 * {@link DefaultElementInstantiator proxy based approach} should be used
+	 */
+	protected Constructor<?> delegatingConstructor(final Class<?> clazz)
+	{
+		return DELEGATING_CONSTRUCTORS.get(clazz).orElse(null);
+	}
+	
+	/**
+	 * Generates the delegating subclass for the given element class.
+	 *
+	 * @return the constructor of the generated class or <code>null</code> if no class could be generated
+	 */
+	protected static Constructor<?> createDelegatingConstructor(final Class<?> clazz)
+	{
+		if(clazz.isInterface() || Modifier.isFinal(clazz.getModifiers()) || clazz.getClassLoader() == null)
+		{
+			return null;
+		}
+		
+		try
+		{
+			final ClassPool pool = new ClassPool(true);
+			pool.insertClassPath(new LoaderClassPath(clazz.getClassLoader()));
+			
+			final CtClass ctClass = pool.makeClass(
+				clazz.getName() + "$$Delegating" + GENERATED_CLASS_COUNTER.incrementAndGet(),
+				pool.get(clazz.getName()));
+			for(final Class<?> additionalInterface : new Class<?>[]{WrapsElement.class, Locatable.class})
+			{
+				if(!additionalInterface.isAssignableFrom(clazz))
+				{
+					ctClass.addInterface(pool.get(additionalInterface.getName()));
+				}
+			}
+			
+			ctClass.addField(CtField.make("private final " + WebElement.class.getName() + " delegate;", ctClass));
+			final boolean cacheRemoteElement = shouldCacheWrappedRemoteElement(clazz);
+			if(cacheRemoteElement)
+			{
+				ctClass.addField(CtField.make(
+					"private final " + ImprovedRemoteWebElement.class.getName() + " remoteElement;",
+					ctClass));
+				ctClass.addMethod(CtNewMethod.make(
+					"public " + ImprovedRemoteWebElement.class.getName() + " getWrappedRemoteElement() {"
+						+ "return this.remoteElement;"
+						+ "}",
+					ctClass));
+			}
+			ctClass.addConstructor(CtNewConstructor.make(
+				new CtClass[]{pool.get(WebElement.class.getName())},
+				new CtClass[0],
+				"{ super(); this.delegate = $1;"
+					+ (cacheRemoteElement
+					? " this.remoteElement = " + ImprovedRemoteWebElement.class.getName() + ".unwrap($1);"
+					: "")
+					+ " }",
+				ctClass));
+			
+			for(final Method method : methodsToDelegate(clazz))
+			{
+				ctClass.addMethod(CtNewMethod.make(delegatingMethodSource(method), ctClass));
+			}
+			
+			final Class<?> generated = ctClass.toClass(clazz);
+			ctClass.detach();
+			return generated.getDeclaredConstructor(WebElement.class);
+		}
+		catch(final NotFoundException | CannotCompileException | NoSuchMethodException | RuntimeException e)
+		{
+			LOG.debug("Failed to generate delegating class for {} - falling back to proxy", clazz, e);
+			return null;
+		}
+	}
+	
+	/**
+	 * @return if the {@link ImprovedWebElement#getWrappedRemoteElement()} should be resolved once when the element is
+	 * created (only if the element class doesn't override it)
+	 */
+	protected static boolean shouldCacheWrappedRemoteElement(final Class<?> clazz)
+	{
+		return ImprovedWebElement.class.isAssignableFrom(clazz)
+			&& M_GET_WRAPPED_REMOTE_ELEMENT.equals(findMethod(clazz, M_GET_WRAPPED_REMOTE_ELEMENT.getName()));
+	}
+	
+	private static Method findMethod(final Class<?> clazz, final String name)
+	{
+		try
+		{
+			return clazz.getMethod(name);
+		}
+		catch(final NoSuchMethodException e)
+		{
+			return null;
+		}
+	}
+	
+	/**
+	 * @return all abstract methods that need to be implemented by the generated subclass
+	 */
+	protected static Collection<Method> methodsToDelegate(final Class<?> clazz)
+	{
+		final Map<String, Method> methods = new LinkedHashMap<>();
+		Stream.concat(
+				Stream.of(clazz.getMethods()),
+				Stream.of(WrapsElement.class, Locatable.class)
+					.filter(c -> !c.isAssignableFrom(clazz))
+					.flatMap(c -> Stream.of(c.getMethods())))
+			.filter(m -> Modifier.isAbstract(m.getModifiers()))
+			.forEach(m -> methods.putIfAbsent(m.getName() + Arrays.toString(m.getParameterTypes()), m));
+		return methods.values();
+	}
+	
+	protected static String delegatingMethodSource(final Method method)
+	{
+		final String params = IntStream.range(0, method.getParameterCount())
+			.mapToObj(i -> method.getParameterTypes()[i].getTypeName() + " p" + i)
+			.collect(Collectors.joining(","));
+		
+		final String body;
+		if(M_GET_WRAPPED_ELEMENT.getName().equals(method.getName()) && method.getParameterCount() == 0)
+		{
+			body = "return this.delegate;";
+		}
+		else
+		{
+			final String call = "((" + method.getDeclaringClass().getTypeName() + ")this.delegate)."
+				+ method.getName() + "($$);";
+			body = method.getReturnType() == void.class ? call : "return " + call;
+		}
+		
+		return "public " + method.getReturnType().getTypeName() + " " + method.getName() + "(" + params + ") {"
+			+ body
+			+ "}";
+	}
+}
@@ -17,6 +17,7 @@ package software.xdev.selenium.elements.instantiator;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
@@ -53,6 +54,24 @@ public interface ElementInstantiator
 		final Function<By, List<WebElement>> search,
 		final Class<T> clazz);
 	
+	default <T extends WebElement> Stream<T> stream(final SearchContext searchContext, final Class<T> clazz)
+	{
+		return this.stream(searchContext::findElements, clazz);
+	}
+	
+	/**
+	 * Same as {@link #findAll(Function, Class)} but only creates the elements that are actually consumed by the
+	 * stream.
+	 */
+	default <T extends WebElement> Stream<T> stream(
+		final Function<By, List<WebElement>> search,
+		final Class<T> clazz)
+	{
+		return search.apply(this.buildSelector(clazz))
+			.stream()
+			.map(webElement -> this.proxyWebElement(clazz, webElement));
+	}
+	
 	<T extends WebElement> By buildSelector(final Class<T> clazz);
 	
 	<T extends WebElement> T proxyWebElement(final Class<T> clazz, final WebElement webElement);
@@ -15,44 +15,137 @@
  */
 package software.xdev.selenium.elements.instantiator;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
+import org.openqa.selenium.WebDriver;
 
+
+/**
+ * Provides the {@link ElementInstantiator} that should be used.
+ * <p>
+ * Lookup order:
+ * <ol>
+ *     <li>Override for the current thread ({@link #setThreadInstance(ElementInstantiator)})</li>
+ *     <li>Override for the driver ({@link #setDriverInstance(WebDriver, ElementInstantiator)}) - only when a driver
+ *     is supplied</li>
+ *     <li>Globally set instance ({@link #setInstance(ElementInstantiator)})</li>
+ *     <li>The instance with the highest {@link ElementInstantiator#priority()} loaded using the
+ *     {@link ServiceLoader}</li>
+ * </ol>
+ * </p>
+ */
 public final class ElementInstantiatorInstance
 {
-	private static boolean initialized;
-	private static ElementInstantiator instance;
+	private static volatile ElementInstantiator instance;
+	
+	private static final ThreadLocal<ElementInstantiator> THREAD_INSTANCE = new ThreadLocal<>();
+	
+	private static final Map<WebDriver, ElementInstantiator> DRIVER_INSTANCES =
+		Collections.synchronizedMap(new WeakHashMap<>());
+	// Allows to skip the (synchronized) map when there are no driver overrides
+	private static volatile boolean driverInstancesPresent;
 	
 	public static ElementInstantiator instance()
 	{
-		if(!initialized)
+		final ElementInstantiator threadInstance = THREAD_INSTANCE.get();
+		if(threadInstance != null)
 		{
-			init();
+			return threadInstance;
 		}
-		return instance;
+		
+		return globalInstance();
 	}
 	
-	private static synchronized void init()
+	public static ElementInstantiator instance(final WebDriver webDriver)
 	{
-		if(initialized)
+		final ElementInstantiator threadInstance = THREAD_INSTANCE.get();
+		if(threadInstance != null)
 		{
-			return;
+			return threadInstance;
 		}
 		
-		setInstance(ServiceLoader.load(ElementInstantiator.class)
-			.stream()
-			.map(ServiceLoader.Provider::get)
-			.max(Comparator.comparing(ElementInstantiator::priority))
-			.orElse(null));
+		if(webDriver != null && driverInstancesPresent)
+		{
+			final ElementInstantiator driverInstance = DRIVER_INSTANCES.get(webDriver);
+			if(driverInstance != null)
+			{
+				return driverInstance;
+			}
+		}
+		
+		return globalInstance();
 	}
 	
+	public static boolean hasDriverInstances()
+	{
+		return driverInstancesPresent;
+	}
+	
+	private static ElementInstantiator globalInstance()
+	{
+		final ElementInstantiator globalInstance = instance;
+		return globalInstance != null
+			? globalInstance
+			: ServiceLoaderHolder.INSTANCE;
+	}
+	
+	/**
+	 * Sets the global instance. <code>null</code> restores the default instance loaded using the
+	 * {@link ServiceLoader}.
+	 */
 	public static void setInstance(final ElementInstantiator instance)
 	{
-		initialized = true;
 		ElementInstantiatorInstance.instance = instance;
 	}
 	
+	/**
+	 * Overrides the instance for the current thread. <code>null</code> removes the override.
+	 */
+	public static void setThreadInstance(final ElementInstantiator instance)
+	{
+		if(instance != null)
+		{
+			THREAD_INSTANCE.set(instance);
+		}
+		else
+		{
+			THREAD_INSTANCE.remove();
+		}
+	}
+	
+	/**
+	 * Overrides the instance for the given driver. <code>null</code> removes the override.
+	 * <p>
+	 * The driver is only weakly referenced.
+	 * </p>
+	 */
+	public static void setDriverInstance(final WebDriver webDriver, final ElementInstantiator instance)
+	{
+		if(instance != null)
+		{
+			DRIVER_INSTANCES.put(webDriver, instance);
+			driverInstancesPresent = true;
+		}
+		else
+		{
+			DRIVER_INSTANCES.remove(webDriver);
+		}
+	}
+	
+	// Initialized on first access; the JVM guarantees safe publication
+	private static final class ServiceLoaderHolder
+	{
+		static final ElementInstantiator INSTANCE = ServiceLoader.load(ElementInstantiator.class)
+			.stream()
+			.map(ServiceLoader.Provider::get)
+			.max(Comparator.comparing(ElementInstantiator::priority))
+			.orElse(null);
+	}
+	
 	private ElementInstantiatorInstance()
 	{
 	}
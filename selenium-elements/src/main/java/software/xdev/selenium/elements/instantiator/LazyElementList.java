@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebElement;
+
+
+/**
+ * Unmodifiable list that only keeps the raw {@link WebElement WebElements} and creates the wrapping element (e.g.
+ * the proxy) when an index is accessed for the first time.
+ * <p>
+ * Created elements are remembered, so accessing the same index again returns the same instance.<br/>
+ * When accessed concurrently for the first time, an index might be wrapped more than once.
+ * </p>
+ */
+public class LazyElementList<T extends WebElement> extends AbstractList<T> implements RandomAccess
+{
+	protected final List<WebElement> webElements;
+	protected final Function<WebElement, T> wrapper;
+	protected final Object[] wrapped;
+	
+	public LazyElementList(final List<WebElement> webElements, final Function<WebElement, T> wrapper)
+	{
+		this.webElements = Objects.requireNonNull(webElements);
+		this.wrapper = Objects.requireNonNull(wrapper);
+		this.wrapped = new Object[webElements.size()];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index)
+	{
+		Object element = this.wrapped[index];
+		if(element == null)
+		{
+			element = this.wrapper.apply(this.webElements.get(index));
+			this.wrapped[index] = element;
+		}
+		return (T)element;
+	}
+	
+	@Override
+	public int size()
+	{
+		return this.wrapped.length;
+	}
+}
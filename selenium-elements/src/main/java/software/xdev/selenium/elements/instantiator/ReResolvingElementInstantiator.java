@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import javassist.util.proxy.MethodHandler;
+
+
+/**
+ * {@link ElementInstantiator} that creates elements which re-resolve themselves when they become stale.
+ * <p>
+ * The element remembers how it was found (the {@link By selector} and the search - e.g. the parent search context).
+ * When a call fails with a {@link StaleElementReferenceException} the element is searched again once and the call
+ * is retried.<br/>
+ * If the parent is also such an element it will also re-resolve itself if required.
+ * </p>
+ * <p>
+ * Note that the whole method is retried; methods that execute multiple commands might therefore execute some of them
+ * twice.<br/>
+ * Elements returned by <code>findAll</code> can't be re-resolved (as there is no reliable way to identify them
+ * again).
+ * </p>
+ * <p>
+ * This is opt-in, e.g. using {@link ElementInstantiatorInstance#setInstance(ElementInstantiator)}.
+ * </p>
+ */
+public class ReResolvingElementInstantiator extends DefaultElementInstantiator
+{
+	@Override
+	protected <T extends WebElement> T findAndCreate(
+		final Function<By, WebElement> search,
+		final By by,
+		final Class<T> clazz)
+	{
+		return this.proxyWebElement(
+			clazz,
+			this.createReResolvingMethodHandler(search.apply(by), () -> search.apply(by)));
+	}
+	
+	protected MethodHandler createReResolvingMethodHandler(
+		final WebElement webElement,
+		final Supplier<WebElement> resolver)
+	{
+		return new ReResolvingMethodHandler(webElement, resolver);
+	}
+	
+	protected class ReResolvingMethodHandler implements MethodHandler
+	{
+		protected final Supplier<WebElement> resolver;
+		protected volatile WebElement webElement;
+		
+		public ReResolvingMethodHandler(final WebElement webElement, final Supplier<WebElement> resolver)
+		{
+			this.webElement = webElement;
+			this.resolver = resolver;
+		}
+		
+		@Override
+		public Object invoke(final Object self, final Method thisMethod, final Method proceed, final Object[] args)
+		{
+			final WebElement current = this.webElement;
+			if(M_GET_WRAPPED_ELEMENT.equals(thisMethod))
+			{
+				return current;
+			}
+			
+			try
+			{
+				return this.invoke(self, thisMethod, proceed, args, current);
+			}
+			catch(final StaleElementReferenceException ex)
+			{
+				final WebElement resolved = this.reResolve(current, ex);
+				return this.invoke(self, thisMethod, proceed, args, resolved);
+			}
+		}
+		
+		protected Object invoke(
+			final Object self,
+			final Method thisMethod,
+			final Method proceed,
+			final Object[] args,
+			final WebElement target)
+		{
+			return proceed != null
+				? ReResolvingElementInstantiator.this.invokeMethodWithProperExceptionHandling(proceed, self, args)
+				: ReResolvingElementInstantiator.this.invokeMethodWithProperExceptionHandling(thisMethod, target, args);
+		}
+		
+		protected synchronized WebElement reResolve(final WebElement stale, final StaleElementReferenceException ex)
+		{
+			// Another thread might have already re-resolved the element
+			if(this.webElement != stale)
+			{
+				return this.webElement;
+			}
+			
+			try
+			{
+				this.webElement = this.resolver.get();
+			}
+			catch(final RuntimeException rex)
+			{
+				ex.addSuppressed(rex);
+				throw ex;
+			}
+			return this.webElement;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+/**
+ * Receives measurements about the operations executed on elements, the WebDriver commands (round trips) they issue
+ * and the wait loops they run.
+ * <p>
+ * Implementations are called by multiple threads concurrently and must therefore be thread-safe.
+ * </p>
+ *
+ * @see ElementMetricsInstance
+ * @see RecordingElementMetrics
+ */
+public interface ElementMetrics
+{
+	/**
+	 * @return if measurements should be taken at all. If <code>false</code> callers skip measuring completely.
+	 */
+	default boolean enabled()
+	{
+		return true;
+	}
+	
+	/**
+	 * Records a high level operation, e.g. a click. The duration includes all commands and waits of the operation.
+	 */
+	void recordOperation(String operation, long durationNanos);
+	
+	/**
+	 * Records a single WebDriver command, i.e. a round trip to the browser.
+	 */
+	void recordCommand(String command, long durationNanos);
+	
+	/**
+	 * Records a wait loop, e.g. waiting until an element is present or until the server load finished.
+	 *
+	 * @param iterations how often the condition was checked
+	 */
+	void recordWait(String wait, int iterations, long durationNanos);
+	
+	default int priority()
+	{
+		return 0;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Exports the {@link MetricSnapshot metrics} as Micrometer-style meters into a {@link MeterSink}.
+ * <p>
+ * Each metric becomes a timer named <code>selenium.elements.&lt;kind&gt;</code> (e.g.
+ * <code>selenium.elements.command</code>) tagged with <code>name</code>. Its measurements use the statistics
+ * <code>COUNT</code>, <code>TOTAL_TIME</code> and <code>MAX</code> (durations in seconds) and the percentiles are
+ * exported as <code>VALUE</code> tagged with <code>phi</code>. The iterations of waits are exported as
+ * <code>selenium.elements.wait.iterations</code>.
+ * </p>
+ * <p>
+ * This library does not depend on Micrometer, a sink can however easily bridge to it, e.g. by registering the
+ * values as gauges/function counters of a <code>MeterRegistry</code>.
+ * </p>
+ */
+public class MeterMetricsExporter
+{
+	public static final String PREFIX = "selenium.elements.";
+	
+	protected static final double NANOS_PER_SECOND = 1_000_000_000.0;
+	
+	/**
+	 * Receives a single measurement of a meter.
+	 */
+	@FunctionalInterface
+	public interface MeterSink
+	{
+		/**
+		 * @param statistic one of <code>COUNT</code>, <code>TOTAL_TIME</code>, <code>MAX</code> or
+		 *                  <code>VALUE</code> - named like Micrometer's <code>Statistic</code>
+		 */
+		void measure(String meterName, Map<String, String> tags, String statistic, double value);
+	}
+	
+	protected final MeterSink sink;
+	
+	public MeterMetricsExporter(final MeterSink sink)
+	{
+		this.sink = sink;
+	}
+	
+	public void export(final RecordingElementMetrics metrics)
+	{
+		this.export(metrics.snapshot());
+	}
+	
+	public void export(final Collection<MetricSnapshot> snapshots)
+	{
+		snapshots.forEach(this::export);
+	}
+	
+	protected void export(final MetricSnapshot snapshot)
+	{
+		final String meterName = PREFIX + snapshot.kind().name().toLowerCase(Locale.ROOT);
+		final Map<String, String> tags = Map.of("name", snapshot.name());
+		
+		this.sink.measure(meterName, tags, "COUNT", snapshot.count());
+		this.sink.measure(meterName, tags, "TOTAL_TIME", seconds(snapshot.total()));
+		this.sink.measure(meterName, tags, "MAX", seconds(snapshot.max()));
+		this.sink.measure(meterName, Map.of("name", snapshot.name(), "phi", "0.5"), "VALUE", seconds(snapshot.p50()));
+		this.sink.measure(meterName, Map.of("name", snapshot.name(), "phi", "0.9"), "VALUE", seconds(snapshot.p90()));
+		this.sink.measure(meterName, Map.of("name", snapshot.name(), "phi", "0.99"), "VALUE", seconds(snapshot.p99()));
+		
+		if(snapshot.kind() == MetricSnapshot.Kind.WAIT)
+		{
+			this.sink.measure(meterName + ".iterations", tags, "COUNT", snapshot.iterations());
+		}
+	}
+	
+	protected static double seconds(final Duration duration)
+	{
+		return duration.toNanos() / NANOS_PER_SECOND;
+	}
+}
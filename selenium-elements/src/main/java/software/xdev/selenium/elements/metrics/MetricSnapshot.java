@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+import java.time.Duration;
+
+
+/**
+ * Point-in-time view of a single metric of {@link RecordingElementMetrics}.
+ * <p>
+ * Percentiles are the upper bounds of the histogram buckets and therefore only accurate to a factor of 2.
+ * </p>
+ *
+ * @param iterations the summed up iterations for {@link Kind#WAIT waits}, otherwise the same as <code>count</code>
+ */
+public record MetricSnapshot(
+	Kind kind,
+	String name,
+	long count,
+	long iterations,
+	Duration total,
+	Duration max,
+	Duration p50,
+	Duration p90,
+	Duration p99)
+{
+	public enum Kind
+	{
+		OPERATION,
+		COMMAND,
+		WAIT
+	}
+	
+	public Duration mean()
+	{
+		return this.count != 0 ? this.total.dividedBy(this.count) : Duration.ZERO;
+	}
+}
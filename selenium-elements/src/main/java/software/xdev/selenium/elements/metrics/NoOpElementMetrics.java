@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+/**
+ * Default {@link ElementMetrics} that records nothing.
+ */
+public final class NoOpElementMetrics implements ElementMetrics
+{
+	public static final NoOpElementMetrics INSTANCE = new NoOpElementMetrics();
+	
+	@Override
+	public boolean enabled()
+	{
+		return false;
+	}
+	
+	@Override
+	public void recordOperation(final String operation, final long durationNanos)
+	{
+		// No-op
+	}
+	
+	@Override
+	public void recordCommand(final String command, final long durationNanos)
+	{
+		// No-op
+	}
+	
+	@Override
+	public void recordWait(final String wait, final int iterations, final long durationNanos)
+	{
+		// No-op
+	}
+	
+	@Override
+	public int priority()
+	{
+		return Integer.MIN_VALUE;
+	}
+	
+	private NoOpElementMetrics()
+	{
+	}
+}
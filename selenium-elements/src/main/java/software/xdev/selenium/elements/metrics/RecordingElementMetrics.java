@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import software.xdev.selenium.elements.metrics.MetricSnapshot.Kind;
+import software.xdev.selenium.elements.wait.LatencyHistogram;
+
+
+/**
+ * {@link ElementMetrics} that keeps counts, total/max durations and a {@link LatencyHistogram} per operation,
+ * command and wait in memory.
+ * <p>
+ * Recording is lock-free. To bound the memory usage at most <code>maxNamesPerKind</code> different names are tracked
+ * per {@link Kind}; further names are recorded as {@link #OTHER}.
+ * </p>
+ *
+ * @see Slf4jMetricsExporter
+ * @see MeterMetricsExporter
+ */
+public class RecordingElementMetrics implements ElementMetrics
+{
+	public static final String OTHER = "other";
+	public static final int DEFAULT_MAX_NAMES_PER_KIND = 500;
+	
+	protected static final double P50 = 0.5;
+	protected static final double P90 = 0.9;
+	protected static final double P99 = 0.99;
+	
+	protected final int maxNamesPerKind;
+	protected final Map<Kind, Map<String, Metric>> metrics = new EnumMap<>(Kind.class);
+	
+	public RecordingElementMetrics()
+	{
+		this(DEFAULT_MAX_NAMES_PER_KIND);
+	}
+	
+	public RecordingElementMetrics(final int maxNamesPerKind)
+	{
+		this.maxNamesPerKind = maxNamesPerKind;
+		for(final Kind kind : Kind.values())
+		{
+			this.metrics.put(kind, new ConcurrentHashMap<>());
+		}
+	}
+	
+	@Override
+	public void recordOperation(final String operation, final long durationNanos)
+	{
+		this.metric(Kind.OPERATION, operation).record(1, durationNanos);
+	}
+	
+	@Override
+	public void recordCommand(final String command, final long durationNanos)
+	{
+		this.metric(Kind.COMMAND, command).record(1, durationNanos);
+	}
+	
+	@Override
+	public void recordWait(final String wait, final int iterations, final long durationNanos)
+	{
+		this.metric(Kind.WAIT, wait).record(iterations, durationNanos);
+	}
+	
+	protected Metric metric(final Kind kind, final String name)
+	{
+		final Map<String, Metric> metricsOfKind = this.metrics.get(kind);
+		final Metric existing = metricsOfKind.get(name);
+		if(existing != null)
+		{
+			return existing;
+		}
+		// The size check is not atomic, the limit may therefore be slightly exceeded under contention
+		return metricsOfKind.computeIfAbsent(
+			metricsOfKind.size() < this.maxNamesPerKind ? name : OTHER,
+			ignored -> new Metric());
+	}
+	
+	/**
+	 * @return all recorded metrics ordered by their total duration (descending), i.e. the metrics that dominate the
+	 * execution time come first
+	 */
+	public List<MetricSnapshot> snapshot()
+	{
+		final List<MetricSnapshot> snapshots = new ArrayList<>();
+		this.metrics.forEach((kind, metricsOfKind) ->
+			metricsOfKind.forEach((name, metric) -> snapshots.add(metric.snapshot(kind, name))));
+		snapshots.sort(Comparator.comparing(MetricSnapshot::total).reversed());
+		return snapshots;
+	}
+	
+	public void reset()
+	{
+		this.metrics.values().forEach(Map::clear);
+	}
+	
+	protected static class Metric
+	{
+		protected final LongAdder count = new LongAdder();
+		protected final LongAdder iterations = new LongAdder();
+		protected final LongAdder totalNanos = new LongAdder();
+		protected final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		protected final LatencyHistogram histogram = new LatencyHistogram();
+		
+		protected void record(final int iterations, final long durationNanos)
+		{
+			this.count.increment();
+			this.iterations.add(iterations);
+			this.totalNanos.add(durationNanos);
+			this.maxNanos.accumulate(durationNanos);
+			this.histogram.record(Duration.ofNanos(durationNanos));
+		}
+		
+		protected MetricSnapshot snapshot(final Kind kind, final String name)
+		{
+			return new MetricSnapshot(
+				kind,
+				name,
+				this.count.sum(),
+				this.iterations.sum(),
+				Duration.ofNanos(this.totalNanos.sum()),
+				Duration.ofNanos(this.maxNanos.get()),
+				this.histogram.percentile(P50),
+				this.histogram.percentile(P90),
+				this.histogram.percentile(P99));
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Logs a summary table of the {@link MetricSnapshot metrics} (ordered by their total duration) using SLF4J.
+ * <p>
+ * Example: <code>new Slf4jMetricsExporter().export(metrics)</code> e.g. after a test suite.
+ * </p>
+ */
+public class Slf4jMetricsExporter
+{
+	protected static final String HEADER = String.format(
+		"%-9s %-50s %8s %10s %12s %10s %10s %10s %10s",
+		"kind", "name", "count", "iterations", "total[ms]", "mean[ms]", "p90[ms]", "p99[ms]", "max[ms]");
+	
+	protected final Logger logger;
+	
+	public Slf4jMetricsExporter()
+	{
+		this(LoggerFactory.getLogger(Slf4jMetricsExporter.class));
+	}
+	
+	public Slf4jMetricsExporter(final Logger logger)
+	{
+		this.logger = logger;
+	}
+	
+	public void export(final RecordingElementMetrics metrics)
+	{
+		this.export(metrics.snapshot());
+	}
+	
+	public void export(final Collection<MetricSnapshot> snapshots)
+	{
+		if(!this.logger.isInfoEnabled() || snapshots.isEmpty())
+		{
+			return;
+		}
+		this.logger.info("Element metrics:{}{}{}{}",
+			System.lineSeparator(),
+			HEADER,
+			System.lineSeparator(),
+			snapshots.stream().map(this::format).collect(Collectors.joining(System.lineSeparator())));
+	}
+	
+	protected String format(final MetricSnapshot snapshot)
+	{
+		return String.format(
+			"%-9s %-50s %8d %10d %12d %10d %10d %10d %10d",
+			snapshot.kind(),
+			snapshot.name(),
+			snapshot.count(),
+			snapshot.iterations(),
+			snapshot.total().toMillis(),
+			snapshot.mean().toMillis(),
+			snapshot.p90().toMillis(),
+			snapshot.p99().toMillis(),
+			snapshot.max().toMillis());
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.remote;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counts the operations executed on {@link ImprovedRemoteWebElement ImprovedRemoteWebElements} and the WebDriver
+ * commands that were issued for them.
+ * <p>
+ * Can be shared across elements and threads.
+ * </p>
+ */
+public class CommandCounter
+{
+	protected final LongAdder operations = new LongAdder();
+	protected final LongAdder commands = new LongAdder();
+	
+	public void recordOperation()
+	{
+		this.operations.increment();
+	}
+	
+	public void recordCommand()
+	{
+		this.commands.increment();
+	}
+	
+	public long operations()
+	{
+		return this.operations.sum();
+	}
+	
+	public long commands()
+	{
+		return this.commands.sum();
+	}
+	
+	public double commandsPerOperation()
+	{
+		final long ops = this.operations();
+		return ops != 0 ? (double)this.commands() / ops : 0;
+	}
+	
+	public void reset()
+	{
+		this.operations.reset();
+		this.commands.reset();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "CommandCounter [operations=" + this.operations()
+			+ ", commands=" + this.commands()
+			+ ", commandsPerOperation=" + this.commandsPerOperation()
+			+ "]";
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.remote;
+
+import java.net.URL;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+
+/**
+ * {@link RemoteWebDriver} that creates its {@link RemoteWebElement elements} using a custom supplier.
+ * <p>
+ * In contrast to {@link CustomizableRemoteWebElementInstaller} no reflection is required.
+ * </p>
+ */
+public class CustomizableRemoteWebDriver extends RemoteWebDriver
+{
+	public CustomizableRemoteWebDriver(
+		final URL remoteAddress,
+		final Capabilities capabilities,
+		final boolean enableTracing,
+		final Supplier<RemoteWebElement> remoteWebElementSupplier)
+	{
+		super(remoteAddress, capabilities, enableTracing);
+		this.installRemoteWebElementSupplier(remoteWebElementSupplier);
+	}
+	
+	public CustomizableRemoteWebDriver(
+		final CommandExecutor executor,
+		final Capabilities capabilities,
+		final Supplier<RemoteWebElement> remoteWebElementSupplier)
+	{
+		super(executor, capabilities);
+		this.installRemoteWebElementSupplier(remoteWebElementSupplier);
+	}
+	
+	public final void installRemoteWebElementSupplier(final Supplier<RemoteWebElement> remoteWebElementSupplier)
+	{
+		this.setElementConverter(new CustomizableRemoteWebElementInstaller.CustomizableJsonToWebElementConverter(
+			this,
+			remoteWebElementSupplier));
+	}
+}
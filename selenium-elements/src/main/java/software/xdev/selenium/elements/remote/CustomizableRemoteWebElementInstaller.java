@@ -15,7 +15,8 @@
  */
 package software.xdev.selenium.elements.remote;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.function.Supplier;
 
@@ -26,26 +27,80 @@ import org.openqa.selenium.remote.RemoteWebElement;
 
 /**
  * Allows to install a custom {@link RemoteWebElement} supplier into {@link RemoteWebDriver}.
+ * <p>
+ * As {@link RemoteWebDriver#setElementConverter(JsonToWebElementConverter)} is not public it's accessed using
+ * reflection. The accessor is only resolved once per JVM.<br/>
+ * If reflection is not possible (e.g. due to strong module encapsulation) use {@link CustomizableRemoteWebDriver}
+ * instead.
+ * </p>
  */
 @SuppressWarnings("java:S3011") // Force accessibility
 public final class CustomizableRemoteWebElementInstaller
 {
+	@SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"}) // Required by invokeExact
 	public static void install(
 		final RemoteWebDriver driver,
 		final Supplier<RemoteWebElement> remoteWebElementSupplier)
 	{
+		if(driver instanceof final CustomizableRemoteWebDriver customizableRemoteWebDriver)
+		{
+			customizableRemoteWebDriver.installRemoteWebElementSupplier(remoteWebElementSupplier);
+			return;
+		}
+		
+		final MethodHandle setElementConverter = SetElementConverterHolder.resolve();
 		try
 		{
-			final Method mSetElementConverter =
-				RemoteWebDriver.class.getDeclaredMethod("setElementConverter", JsonToWebElementConverter.class);
-			mSetElementConverter.setAccessible(true);
-			mSetElementConverter.invoke(
+			setElementConverter.invokeExact(
 				driver,
-				new CustomizableJsonToWebElementConverter(driver, remoteWebElementSupplier));
+				(JsonToWebElementConverter)new CustomizableJsonToWebElementConverter(driver, remoteWebElementSupplier));
+		}
+		catch(final RuntimeException | Error e)
+		{
+			throw e;
 		}
-		catch(final NoSuchMethodException | IllegalAccessException | InvocationTargetException e)
+		catch(final Throwable t)
+		{
+			throw new IllegalStateException("Failed to invoke setElementConverter", t);
+		}
+	}
+	
+	// Resolved once on first access
+	private static final class SetElementConverterHolder
+	{
+		private static final MethodHandle SET_ELEMENT_CONVERTER;
+		private static final IllegalStateException FAILURE;
+		
+		static
+		{
+			MethodHandle handle = null;
+			IllegalStateException failure = null;
+			try
+			{
+				final Method mSetElementConverter =
+					RemoteWebDriver.class.getDeclaredMethod("setElementConverter", JsonToWebElementConverter.class);
+				mSetElementConverter.setAccessible(true);
+				handle = MethodHandles.lookup().unreflect(mSetElementConverter);
+			}
+			catch(final NoSuchMethodException | IllegalAccessException | RuntimeException e)
+			{
+				failure = new IllegalStateException("Failed to access setElementConverter", e);
+			}
+			SET_ELEMENT_CONVERTER = handle;
+			FAILURE = failure;
+		}
+		
+		static MethodHandle resolve()
+		{
+			if(SET_ELEMENT_CONVERTER == null)
+			{
+				throw new IllegalStateException(FAILURE.getMessage(), FAILURE.getCause());
+			}
+			return SET_ELEMENT_CONVERTER;
+		}
+		
+		private SetElementConverterHolder()
 		{
-			throw new IllegalStateException("Failed to access setElementConverter", e);
 		}
 	}
 	
@@ -15,13 +15,28 @@
  */
 package software.xdev.selenium.elements.remote;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.Response;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import software.xdev.selenium.elements.CanFindElementsSelfSearchContext;
+import software.xdev.selenium.elements.metrics.ElementMetrics;
+import software.xdev.selenium.elements.metrics.ElementMetricsInstance;
+import software.xdev.selenium.elements.tracing.ElementSpan;
+import software.xdev.selenium.elements.tracing.ElementTracer;
+import software.xdev.selenium.elements.tracing.ElementTracerInstance;
 
 
 /**
@@ -35,9 +50,97 @@ import software.xdev.selenium.elements.CanFindElementsSelfSearchContext;
 @SuppressWarnings("java:S2160")
 public class ImprovedRemoteWebElement extends RemoteWebElement implements CanFindElementsSelfSearchContext
 {
+	protected static final int MAX_UNWRAP_DEPTH = 16;
+	
+	public static final Duration DEFAULT_SERVER_LOAD_POLL_INTERVAL = Duration.ofMillis(25);
+	public static final Duration DEFAULT_SERVER_LOAD_MAX_POLL_INTERVAL = Duration.ofMillis(250);
+	
+	/**
+	 * Waits inside the browser until the function (inserted at <code>%s</code>) returns <code>true</code>.
+	 * <p>
+	 * The function is checked immediately, on every DOM mutation and additionally polled (for states that are not
+	 * reflected in the DOM, e.g. <code>document.readyState</code> or pending requests).
+	 * </p>
+	 * <p>
+	 * Arguments: timeout in ms, poll interval in ms, callback
+	 * </p>
+	 */
+	protected static final String WAIT_FOR_SERVER_LOAD_TO_FINISH_ASYNC_TEMPLATE = """
+		var callback = arguments[arguments.length - 1];
+		var deadline = Date.now() + arguments[0];
+		var pollInterval = arguments[1];
+		var isFinished = function() { %s };
+		var done = false;
+		var observer = null;
+		var timer = null;
+		var finish = function(result) {
+			if(done) { return; }
+			done = true;
+			if(observer) { observer.disconnect(); }
+			if(timer) { clearTimeout(timer); }
+			callback(result);
+		};
+		var check = function() {
+			try {
+				if(isFinished() === true) { finish(true); return; }
+			} catch(e) { /* Not ready yet */ }
+			if(Date.now() >= deadline) { finish(false); }
+		};
+		var poll = function() {
+			check();
+			if(!done) { timer = setTimeout(poll, pollInterval); }
+		};
+		if(typeof MutationObserver !== 'undefined') {
+			observer = new MutationObserver(check);
+			observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+		}
+		poll();
+		""";
+	
+	/**
+	 * Checks if the server load finished (function inserted at <code>%s</code>) and if the element is displayed.
+	 * Scrolls the element into view if required.
+	 * <p>
+	 * Arguments: element, auto scroll into view, skip the server load check
+	 * </p>
+	 */
+	protected static final String PREPARE_FOR_OPERATION_TEMPLATE = """
+		var element = arguments[0];
+		var isFinished = function() { %s };
+		var ready;
+		try {
+			ready = arguments[2] || isFinished() === true;
+		} catch(e) {
+			ready = false;
+		}
+		if(!ready) {
+			return {ready: false, displayed: false, scrolled: false};
+		}
+		var displayed = element.getClientRects().length > 0
+			&& (element.offsetWidth > 0 || element.offsetHeight > 0)
+			&& (typeof element.checkVisibility !== 'function'
+				|| element.checkVisibility({checkOpacity: true, checkVisibilityCSS: true}));
+		var scrolled = false;
+		if(arguments[1] && !displayed) {
+			element.scrollIntoView(true);
+			scrolled = true;
+		}
+		return {ready: true, displayed: displayed, scrolled: scrolled};
+		""";
+	
 	protected Logger logger;
 	protected final String waitForServerLoadToFinishFunction;
+	protected String waitForServerLoadToFinishAsyncScript;
+	protected String prepareForOperationScript;
 	protected boolean autoScrollIntoView = true;
+	protected boolean waitForServerLoadToFinishAsync;
+	protected Duration serverLoadPollInterval = DEFAULT_SERVER_LOAD_POLL_INTERVAL;
+	protected Duration serverLoadMaxPollInterval = DEFAULT_SERVER_LOAD_MAX_POLL_INTERVAL;
+	protected Duration serverLoadFinishedCacheTtl = Duration.ZERO;
+	protected boolean fusedPrepareForOperation;
+	protected CommandCounter commandCounter;
+	protected ElementMetrics elementMetrics;
+	protected ElementTracer elementTracer;
 	
 	public ImprovedRemoteWebElement(final String waitForServerLoadToFinishFunction)
 	{
@@ -50,6 +153,158 @@ public class ImprovedRemoteWebElement extends RemoteWebElement implements CanFin
 		return this;
 	}
 	
+	/**
+	 * Waits for the server load to finish inside the browser (using
+	 * {@link org.openqa.selenium.JavascriptExecutor#executeAsyncScript(String, Object...)}), so that waiting only
+	 * requires a single command.
+	 * <p>
+	 * Falls back to polling if the async script fails.
+	 * </p>
+	 */
+	public ImprovedRemoteWebElement withWaitForServerLoadToFinishAsync(final boolean waitForServerLoadToFinishAsync)
+	{
+		this.waitForServerLoadToFinishAsync = waitForServerLoadToFinishAsync;
+		return this;
+	}
+	
+	/**
+	 * Configures the polling when waiting for the server load to finish. The interval is doubled after each
+	 * unsuccessful check until the maximum is reached.
+	 */
+	public ImprovedRemoteWebElement withServerLoadPollInterval(
+		final Duration serverLoadPollInterval,
+		final Duration serverLoadMaxPollInterval)
+	{
+		this.serverLoadPollInterval = Objects.requireNonNull(serverLoadPollInterval);
+		this.serverLoadMaxPollInterval = Objects.requireNonNull(serverLoadMaxPollInterval);
+		return this;
+	}
+	
+	/**
+	 * Skips waiting for the server load to finish if it was confirmed to be finished (for the same driver) within
+	 * the given time-to-live and nothing invalidated it in the meantime.
+	 * <p>
+	 * Disabled by default (<code>0</code>).
+	 * </p>
+	 *
+	 * @see ServerLoadFinishedCache
+	 */
+	public ImprovedRemoteWebElement withServerLoadFinishedCacheTtl(final Duration serverLoadFinishedCacheTtl)
+	{
+		this.serverLoadFinishedCacheTtl = Objects.requireNonNull(serverLoadFinishedCacheTtl);
+		return this;
+	}
+	
+	/**
+	 * Executes the checks of {@link #prepareForOperation()} (server load finished, displayed and scrolling into
+	 * view) using a single script. Only if the server load is not yet finished, the regular (multi-command) logic is
+	 * used.
+	 * <p>
+	 * Note that the check if the element is displayed is a simplified version of {@link #isDisplayed()}.
+	 * </p>
+	 */
+	public ImprovedRemoteWebElement withFusedPrepareForOperation(final boolean fusedPrepareForOperation)
+	{
+		this.fusedPrepareForOperation = fusedPrepareForOperation;
+		return this;
+	}
+	
+	/**
+	 * Records the operations and the WebDriver commands issued by this element into the given counter.
+	 */
+	public ImprovedRemoteWebElement withCommandCounter(final CommandCounter commandCounter)
+	{
+		this.commandCounter = commandCounter;
+		return this;
+	}
+	
+	/**
+	 * Records operations, commands and waits of this element into the given metrics instead of
+	 * {@link ElementMetricsInstance#instance()}.
+	 */
+	public ImprovedRemoteWebElement withElementMetrics(final ElementMetrics elementMetrics)
+	{
+		this.elementMetrics = elementMetrics;
+		return this;
+	}
+	
+	@Override
+	public ElementMetrics elementMetrics()
+	{
+		return this.elementMetrics != null ? this.elementMetrics : ElementMetricsInstance.instance();
+	}
+	
+	/**
+	 * Records spans of this element into the given tracer instead of {@link ElementTracerInstance#instance()}.
+	 */
+	public ImprovedRemoteWebElement withElementTracer(final ElementTracer elementTracer)
+	{
+		this.elementTracer = elementTracer;
+		return this;
+	}
+	
+	@Override
+	public ElementTracer elementTracer()
+	{
+		return this.elementTracer != null ? this.elementTracer : ElementTracerInstance.instance();
+	}
+	
+	protected void measureOperation(final String operation, final Runnable action)
+	{
+		this.measureOperation(operation, () -> {
+			action.run();
+			return null;
+		});
+	}
+	
+	protected <T> T measureOperation(final String operation, final Supplier<T> action)
+	{
+		final ElementMetrics metrics = this.elementMetrics();
+		final ElementTracer tracer = this.elementTracer();
+		if(!metrics.enabled() && !tracer.enabled())
+		{
+			return action.get();
+		}
+		return tracer.trace("ImprovedRemoteWebElement." + operation, span -> {
+			span.setAttribute("element.class", this.getClass());
+			final long start = System.nanoTime();
+			try
+			{
+				return action.get();
+			}
+			finally
+			{
+				metrics.recordOperation(operation, System.nanoTime() - start);
+			}
+		});
+	}
+	
+	protected <T> T measureCommand(final String command, final Supplier<T> action)
+	{
+		if(this.commandCounter != null)
+		{
+			this.commandCounter.recordCommand();
+		}
+		
+		final ElementMetrics metrics = this.elementMetrics();
+		final ElementTracer tracer = this.elementTracer();
+		if(!metrics.enabled() && !tracer.enabled())
+		{
+			return action.get();
+		}
+		return tracer.trace("WebDriver." + command, span -> {
+			final long start = System.nanoTime();
+			try
+			{
+				return action.get();
+			}
+			finally
+			{
+				metrics.recordCommand(command, System.nanoTime() - start);
+			}
+		});
+	}
+	
 	protected Logger logger()
 	{
 		if(this.logger == null)
@@ -65,27 +320,64 @@ public class ImprovedRemoteWebElement extends RemoteWebElement implements CanFin
 		return this.getWrappedDriver();
 	}
 	
+	@Override
+	protected Response execute(final CommandPayload payload)
+	{
+		return this.measureCommand(payload.getName(), () -> super.execute(payload));
+	}
+	
+	@Override
+	public Object executeScript(final String script, final Object... args)
+	{
+		return this.measureCommand(
+			"executeScript",
+			() -> CanFindElementsSelfSearchContext.super.executeScript(script, args));
+	}
+	
+	@Override
+	public Object executeAsyncScript(final String script, final Object... args)
+	{
+		return this.measureCommand(
+			"executeAsyncScript",
+			() -> CanFindElementsSelfSearchContext.super.executeAsyncScript(script, args));
+	}
+	
 	@Override
 	public void click()
 	{
-		this.prepareForOperation();
-		try
-		{
-			super.click();
-		}
-		catch(final ElementNotInteractableException ex)
-		{
-			this.logger().warn(
+		this.measureOperation("click", () -> {
+			this.prepareForOperation();
+			try
+			{
+				super.click();
+			}
+			catch(final ElementNotInteractableException ex)
+			{
+				this.logger().warn(
 					"Element can't be clicked via UI - executing JS click. "
 						+ "Please manually check if the element is accessible. "
 						+ "If the element is accessible consider calling performJsClick directly.", ex);
-			this.performJsClick();
-		}
+				this.performJsClick();
+			}
+			finally
+			{
+				this.invalidateServerLoadFinished();
+			}
+		});
 	}
 	
 	public void performJsClick()
 	{
-		this.callFunction("click");
+		this.measureOperation("performJsClick", () -> {
+			try
+			{
+				this.callFunction("click");
+			}
+			finally
+			{
+				this.invalidateServerLoadFinished();
+			}
+		});
 	}
 	
 	/**
@@ -93,28 +385,122 @@ public class ImprovedRemoteWebElement extends RemoteWebElement implements CanFin
 	 */
 	public void nativeClick()
 	{
-		super.click();
+		try
+		{
+			super.click();
+		}
+		finally
+		{
+			this.invalidateServerLoadFinished();
+		}
+	}
+	
+	@Override
+	public void submit()
+	{
+		this.measureOperation("submit", () -> {
+			try
+			{
+				super.submit();
+			}
+			finally
+			{
+				this.invalidateServerLoadFinished();
+			}
+		});
+	}
+	
+	@Override
+	public void clear()
+	{
+		this.measureOperation("clear", () -> {
+			try
+			{
+				super.clear();
+			}
+			finally
+			{
+				this.invalidateServerLoadFinished();
+			}
+		});
 	}
 	
 	@Override
 	public String getText()
 	{
-		this.prepareForOperation();
-		return super.getText();
+		return this.measureOperation("getText", () -> {
+			this.prepareForOperation();
+			return super.getText();
+		});
 	}
 	
 	@Override
 	public void sendKeys(final CharSequence... keysToSend)
 	{
-		this.prepareForOperation();
-		super.sendKeys(keysToSend);
+		this.measureOperation("sendKeys", () -> {
+			this.prepareForOperation();
+			try
+			{
+				super.sendKeys(keysToSend);
+			}
+			finally
+			{
+				this.invalidateServerLoadFinished();
+			}
+		});
 	}
 	
 	// Shortcut so that not all invoked methods need to be written each time
 	public void prepareForOperation()
 	{
-		this.waitForServerLoadToFinish();
-		this.scrollIntoViewIfRequired();
+		if(this.commandCounter != null)
+		{
+			this.commandCounter.recordOperation();
+		}
+		
+		this.measureOperation("prepareForOperation", () -> {
+			if(this.fusedPrepareForOperation && this.prepareForOperationFused())
+			{
+				return;
+			}
+			
+			this.waitForServerLoadToFinish();
+			this.scrollIntoViewIfRequired();
+		});
+	}
+	
+	/**
+	 * @return <code>true</code> if the element was prepared or <code>false</code> if the server load is not yet
+	 * finished
+	 */
+	protected boolean prepareForOperationFused()
+	{
+		if(this.prepareForOperationScript == null)
+		{
+			this.prepareForOperationScript = PREPARE_FOR_OPERATION_TEMPLATE.formatted(
+				this.waitForServerLoadToFinishFunction != null
+					? this.waitForServerLoadToFinishFunction
+					: "return true;");
+		}
+		
+		final boolean serverLoadFinished = this.waitForServerLoadToFinishFunction == null
+			|| ServerLoadFinishedCache.isFinished(this.getWrappedDriver(), this.serverLoadFinishedCacheTtl);
+		
+		final Object result = this.executeScript(
+			this.prepareForOperationScript,
+			this,
+			this.autoScrollIntoView,
+			serverLoadFinished);
+		if(!(result instanceof final Map<?, ?> map) || !Boolean.TRUE.equals(map.get("ready")))
+		{
+			return false;
+		}
+		
+		if(!serverLoadFinished)
+		{
+			this.markServerLoadFinished();
+		}
+		return true;
 	}
 	
 	public void scrollIntoViewIfRequired()
@@ -134,22 +520,146 @@ public class ImprovedRemoteWebElement extends RemoteWebElement implements CanFin
 	
 	public void waitForServerLoadToFinish()
 	{
-		if(this.waitForServerLoadToFinishFunction == null)
+		if(this.waitForServerLoadToFinishFunction == null
+			|| ServerLoadFinishedCache.isFinished(this.getWrappedDriver(), this.serverLoadFinishedCacheTtl))
 		{
 			return;
 		}
 		
 		final long timeoutTime = System.currentTimeMillis() + DEFAULT_WAIT_UNTIL_DURATION.toMillis();
 		
-		boolean finished = false;
-		while(System.currentTimeMillis() < timeoutTime && !finished)
+		Boolean finished = this.waitForServerLoadToFinishAsync
+			? this.waitForServerLoadToFinishInBrowser(timeoutTime)
+			: null;
+		if(finished == null)
+		{
+			finished = this.pollForServerLoadToFinish(timeoutTime);
+		}
+		
+		if(finished)
+		{
+			this.markServerLoadFinished();
+		}
+	}
+	
+	/**
+	 * Unwraps the element (e.g. a proxy or a decorated element) until an {@link ImprovedRemoteWebElement} is found.
+	 *
+	 * @return the element or <code>null</code> if there is none
+	 */
+	public static ImprovedRemoteWebElement unwrap(final WebElement webElement)
+	{
+		WebElement current = webElement;
+		// Limit the depth in case an element (incorrectly) wraps itself
+		for(int i = 0; i < MAX_UNWRAP_DEPTH && current != null; i++)
+		{
+			if(current instanceof final ImprovedRemoteWebElement improvedRemoteWebElement)
+			{
+				return improvedRemoteWebElement;
+			}
+			current = current instanceof final WrapsElement wrapsElement ? wrapsElement.getWrappedElement() : null;
+		}
+		return null;
+	}
+	
+	/**
+	 * Remembers that the server load of the driver is finished (only if the cache is enabled).
+	 */
+	protected void markServerLoadFinished()
+	{
+		if(!this.serverLoadFinishedCacheTtl.isZero())
+		{
+			ServerLoadFinishedCache.markFinished(this.getWrappedDriver());
+		}
+	}
+	
+	/**
+	 * Marks the server load state of the driver as unknown, e.g. because an operation might have triggered a new
+	 * server load.
+	 */
+	public void invalidateServerLoadFinished()
+	{
+		if(!this.serverLoadFinishedCacheTtl.isZero())
+		{
+			ServerLoadFinishedCache.invalidate(this.getWrappedDriver());
+		}
+	}
+	
+	/**
+	 * @return if the server load finished or <code>null</code> if waiting inside the browser failed and polling
+	 * should be used as fallback
+	 */
+	protected Boolean waitForServerLoadToFinishInBrowser(final long timeoutTime)
+	{
+		if(this.waitForServerLoadToFinishAsyncScript == null)
+		{
+			this.waitForServerLoadToFinishAsyncScript = WAIT_FOR_SERVER_LOAD_TO_FINISH_ASYNC_TEMPLATE.formatted(
+				this.waitForServerLoadToFinishFunction);
+		}
+		
+		final long start = System.nanoTime();
+		try
+		{
+			return this.executeAsyncScript(
+				this.waitForServerLoadToFinishAsyncScript,
+				Math.max(0, timeoutTime - System.currentTimeMillis()),
+				this.serverLoadPollInterval.toMillis()) instanceof final Boolean b ? b : null;
+		}
+		catch(final WebDriverException ex)
 		{
-			final Boolean retVal = (Boolean)this.executeScript(this.waitForServerLoadToFinishFunction);
-			if(retVal == null)
+			this.logger().debug("Failed to wait for server load inside the browser - falling back to polling", ex);
+			return null;
+		}
+		finally
+		{
+			this.elementMetrics().recordWait("waitForServerLoadToFinishInBrowser", 1, System.nanoTime() - start);
+		}
+	}
+	
+	protected boolean pollForServerLoadToFinish(final long timeoutTime)
+	{
+		final ElementSpan span = this.elementTracer().startSpan("ImprovedRemoteWebElement.waitForServerLoadToFinish");
+		final long start = System.nanoTime();
+		int iterations = 0;
+		long pollIntervalMs = this.serverLoadPollInterval.toMillis();
+		try
+		{
+			while(true)
 			{
-				this.logger().warn("waitForLoadToFinishFunction returned null! It should either return true or false");
+				iterations++;
+				final Boolean retVal = (Boolean)this.executeScript(this.waitForServerLoadToFinishFunction);
+				if(retVal == null)
+				{
+					this.logger().warn(
+						"waitForLoadToFinishFunction returned null! It should either return true or false");
+				}
+				if(Boolean.TRUE.equals(retVal))
+				{
+					return true;
+				}
+				
+				final long remainingMs = timeoutTime - System.currentTimeMillis();
+				if(remainingMs <= 0)
+				{
+					return false;
+				}
+				
+				try
+				{
+					Thread.sleep(Math.min(pollIntervalMs, remainingMs));
+				}
+				catch(final InterruptedException iex)
+				{
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				pollIntervalMs = Math.min(pollIntervalMs * 2, this.serverLoadMaxPollInterval.toMillis());
 			}
-			finished = Boolean.TRUE.equals(retVal);
+		}
+		finally
+		{
+			span.setAttribute("poll.count", iterations).end();
+			this.elementMetrics().recordWait("waitForServerLoadToFinish", iterations, System.nanoTime() - start);
 		}
 	}
 }
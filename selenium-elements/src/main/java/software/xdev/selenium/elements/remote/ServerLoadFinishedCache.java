@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.remote;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import software.xdev.selenium.elements.InvalidatingWebDriverListener;
+
+
+/**
+ * Remembers per {@link WebDriver} when the server load was last confirmed to be finished.
+ * <p>
+ * This allows {@link ImprovedRemoteWebElement} to skip the check for consecutive operations.<br/>
+ * The state is invalidated by operations that might trigger a server load (e.g. clicks or key input).
+ * </p>
+ * <p>
+ * Navigation done directly on the {@link WebDriver} can't be detected automatically. Either register
+ * {@link #invalidatingListener(WebDriver)} using an {@link org.openqa.selenium.support.events.EventFiringDecorator}
+ * or call {@link #invalidate(WebDriver)} manually.
+ * </p>
+ */
+public final class ServerLoadFinishedCache
+{
+	private static final Map<WebDriver, Long> LAST_FINISHED_NANOS =
+		Collections.synchronizedMap(new WeakHashMap<>());
+	
+	/**
+	 * @return <code>true</code> if the server load was confirmed to be finished within the given time-to-live
+	 */
+	public static boolean isFinished(final WebDriver webDriver, final Duration ttl)
+	{
+		if(webDriver == null || ttl.isZero() || ttl.isNegative())
+		{
+			return false;
+		}
+		
+		final Long lastFinishedNanos = LAST_FINISHED_NANOS.get(webDriver);
+		return lastFinishedNanos != null && System.nanoTime() - lastFinishedNanos < ttl.toNanos();
+	}
+	
+	public static void markFinished(final WebDriver webDriver)
+	{
+		if(webDriver != null)
+		{
+			LAST_FINISHED_NANOS.put(webDriver, System.nanoTime());
+		}
+	}
+	
+	public static void invalidate(final WebDriver webDriver)
+	{
+		if(webDriver != null)
+		{
+			LAST_FINISHED_NANOS.remove(webDriver);
+		}
+	}
+	
+	/**
+	 * Creates a listener that invalidates the state of the driver on navigation, window/frame switches and element
+	 * interactions.
+	 */
+	public static WebDriverListener invalidatingListener(final WebDriver webDriver)
+	{
+		return new InvalidatingWebDriverListener(() -> invalidate(webDriver));
+	}
+	
+	private ServerLoadFinishedCache()
+	{
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * {@link ElementTracer} that buffers the finished spans in memory so that they can be inspected or
+ * {@link #exportTo(Path) exported to a file} e.g. after a test run.
+ * <p>
+ * At most <code>capacity</code> spans are buffered; when the buffer is full the oldest spans are dropped.
+ * </p>
+ * <pre>
+ * BufferingElementTracer tracer = new BufferingElementTracer();
+ * ElementTracerInstance.setInstance(tracer);
+ * // run the test
+ * tracer.exportTo(Path.of("target/element-spans.jsonl"));
+ * </pre>
+ */
+public class BufferingElementTracer implements ElementTracer
+{
+	public static final int DEFAULT_CAPACITY = 10_000;
+	
+	protected static final int TRACE_ID_LONGS = 2;
+	
+	protected final int capacity;
+	protected final ConcurrentLinkedQueue<SpanData> spans = new ConcurrentLinkedQueue<>();
+	protected final AtomicInteger size = new AtomicInteger();
+	protected final LongAdder dropped = new LongAdder();
+	protected final ThreadLocal<BufferedSpan> currentSpan = new ThreadLocal<>();
+	
+	// Wall clock time is only determined once; durations are measured using the monotonic nanoTime
+	protected final long epochNanosAtStart;
+	protected final long nanoTimeAtStart = System.nanoTime();
+	
+	public BufferingElementTracer()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	public BufferingElementTracer(final int capacity)
+	{
+		this.capacity = capacity;
+		final Instant now = Instant.now();
+		this.epochNanosAtStart = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+	}
+	
+	@Override
+	public ElementSpan startSpan(final String name)
+	{
+		final BufferedSpan span = this.createSpan(name);
+		this.currentSpan.set(span);
+		return span;
+	}
+	
+	@Override
+	public ElementSpan startDetachedSpan(final String name)
+	{
+		return this.createSpan(name);
+	}
+	
+	protected BufferedSpan createSpan(final String name)
+	{
+		final BufferedSpan parent = this.currentSpan.get();
+		return new BufferedSpan(
+			parent,
+			parent != null ? parent.traceId : randomId(TRACE_ID_LONGS),
+			randomId(1),
+			name,
+			this.epochNanos());
+	}
+	
+	protected long epochNanos()
+	{
+		return this.epochNanosAtStart + (System.nanoTime() - this.nanoTimeAtStart);
+	}
+	
+	protected static String randomId(final int longs)
+	{
+		final StringBuilder sb = new StringBuilder(longs * Long.BYTES * 2);
+		for(int i = 0; i < longs; i++)
+		{
+			// Leading zeros are required as the ids have a fixed length
+			final String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+			sb.append("0".repeat(Long.BYTES * 2 - hex.length())).append(hex);
+		}
+		return sb.toString();
+	}
+	
+	protected void onEnd(final BufferedSpan span, final SpanData spanData)
+	{
+		if(this.currentSpan.get() == span)
+		{
+			if(span.parent != null)
+			{
+				this.currentSpan.set(span.parent);
+			}
+			else
+			{
+				this.currentSpan.remove();
+			}
+		}
+		
+		this.spans.add(spanData);
+		if(this.size.incrementAndGet() > this.capacity && this.spans.poll() != null)
+		{
+			this.size.decrementAndGet();
+			this.dropped.increment();
+		}
+	}
+	
+	/**
+	 * @return the buffered spans in the order in which they were ended
+	 */
+	public List<SpanData> spans()
+	{
+		return new ArrayList<>(this.spans);
+	}
+	
+	/**
+	 * @return how many spans were dropped because the buffer was full
+	 */
+	public long dropped()
+	{
+		return this.dropped.sum();
+	}
+	
+	public void clear()
+	{
+		while(this.spans.poll() != null)
+		{
+			this.size.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Appends the buffered spans to the file (in OTLP JSON format) and removes them from the buffer.
+	 *
+	 * @see OtlpJsonFileExporter
+	 */
+	public void exportTo(final Path file) throws IOException
+	{
+		final List<SpanData> toExport = new ArrayList<>();
+		SpanData spanData;
+		while((spanData = this.spans.poll()) != null)
+		{
+			this.size.decrementAndGet();
+			toExport.add(spanData);
+		}
+		new OtlpJsonFileExporter().export(toExport, file);
+	}
+	
+	protected class BufferedSpan implements ElementSpan
+	{
+		protected final BufferedSpan parent;
+		protected final String traceId;
+		protected final String spanId;
+		protected final String name;
+		protected final long startEpochNanos;
+		protected final Map<String, Object> attributes = new LinkedHashMap<>();
+		protected Throwable exception;
+		protected boolean ended;
+		
+		protected BufferedSpan(
+			final BufferedSpan parent,
+			final String traceId,
+			final String spanId,
+			final String name,
+			final long startEpochNanos)
+		{
+			this.parent = parent;
+			this.traceId = traceId;
+			this.spanId = spanId;
+			this.name = name;
+			this.startEpochNanos = startEpochNanos;
+		}
+		
+		@Override
+		public ElementSpan setAttribute(final String key, final Object value)
+		{
+			this.attributes.put(key, value);
+			return this;
+		}
+		
+		@Override
+		public void recordException(final Throwable throwable)
+		{
+			this.exception = throwable;
+		}
+		
+		@Override
+		public void end()
+		{
+			if(this.ended)
+			{
+				return;
+			}
+			this.ended = true;
+			
+			final Map<String, Object> convertedAttributes = new LinkedHashMap<>();
+			this.attributes.forEach((key, value) -> {
+				if(value != null)
+				{
+					convertedAttributes.put(key, convertAttributeValue(value));
+				}
+			});
+			
+			BufferingElementTracer.this.onEnd(this, new SpanData(
+				this.traceId,
+				this.spanId,
+				this.parent != null ? this.parent.spanId : null,
+				this.name,
+				this.startEpochNanos,
+				BufferingElementTracer.this.epochNanos(),
+				Collections.unmodifiableMap(convertedAttributes),
+				this.exception != null ? this.exception.getClass().getName() : null,
+				this.exception != null ? this.exception.getMessage() : null));
+		}
+	}
+	
+	protected static Object convertAttributeValue(final Object value)
+	{
+		if(value instanceof Boolean || value instanceof Double || value instanceof Long)
+		{
+			return value;
+		}
+		if(value instanceof final Float f)
+		{
+			return f.doubleValue();
+		}
+		if(value instanceof final Number n)
+		{
+			return n.longValue();
+		}
+		if(value instanceof final Class<?> clazz)
+		{
+			return clazz.getName();
+		}
+		return String.valueOf(value);
+	}
+}
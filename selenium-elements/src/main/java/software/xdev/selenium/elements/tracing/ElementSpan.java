@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+/**
+ * A timed unit of work (e.g. an element lookup or a wait) created by an {@link ElementTracer}.
+ * <p>
+ * Spans are used by the thread that created them (except
+ * {@link ElementTracer#startDetachedSpan(String) detached spans}) and must be {@link #end() ended} exactly once.
+ * </p>
+ */
+public interface ElementSpan extends AutoCloseable
+{
+	/**
+	 * @param value a {@link String}, {@link Number} or {@link Boolean}; other values are converted using
+	 *              {@link String#valueOf(Object)} when the span is ended (and only if the span is recorded)
+	 */
+	ElementSpan setAttribute(String key, Object value);
+	
+	void recordException(Throwable throwable);
+	
+	void end();
+	
+	@Override
+	default void close()
+	{
+		this.end();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.util.function.Function;
+
+
+/**
+ * Creates {@link ElementSpan spans} for element lookups, waits and operations.
+ * <p>
+ * Spans started while another span of the same thread is active become its children. Implementations are called by
+ * multiple threads concurrently and must therefore be thread-safe.
+ * </p>
+ *
+ * @see ElementTracerInstance
+ * @see BufferingElementTracer
+ */
+public interface ElementTracer
+{
+	/**
+	 * @return if spans are recorded at all. If <code>false</code> callers may skip tracing completely.
+	 */
+	default boolean enabled()
+	{
+		return true;
+	}
+	
+	ElementSpan startSpan(String name);
+	
+	/**
+	 * Starts a span that - in contrast to {@link #startSpan(String)} - doesn't become the active span of the current
+	 * thread. It may therefore be ended by another thread (e.g. when an asynchronous operation completes).
+	 * <p>
+	 * Implementations that track the active span per thread should override this. By default
+	 * {@link #startSpan(String)} is used.
+	 * </p>
+	 */
+	default ElementSpan startDetachedSpan(final String name)
+	{
+		return this.startSpan(name);
+	}
+	
+	/**
+	 * Executes the action inside a new span that is ended afterward. Exceptions are recorded on the span.
+	 */
+	@SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"}) // Rethrown
+	default <T> T trace(final String name, final Function<ElementSpan, T> action)
+	{
+		final ElementSpan span = this.startSpan(name);
+		try
+		{
+			return action.apply(span);
+		}
+		catch(final RuntimeException | Error ex)
+		{
+			span.recordException(ex);
+			throw ex;
+		}
+		finally
+		{
+			span.end();
+		}
+	}
+	
+	default int priority()
+	{
+		return 0;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.util.Comparator;
+import java.util.ServiceLoader;
+
+
+/**
+ * Provides the {@link ElementTracer} that should be used.
+ * <p>
+ * If no instance is set the one with the highest {@link ElementTracer#priority()} loaded using the
+ * {@link ServiceLoader} is used or {@link NoOpElementTracer#INSTANCE} if there is none.
+ * </p>
+ */
+public final class ElementTracerInstance
+{
+	private static volatile ElementTracer instance;
+	
+	public static ElementTracer instance()
+	{
+		final ElementTracer globalInstance = instance;
+		return globalInstance != null
+			? globalInstance
+			: ServiceLoaderHolder.INSTANCE;
+	}
+	
+	/**
+	 * Sets the global instance. <code>null</code> restores the default instance.
+	 */
+	public static void setInstance(final ElementTracer instance)
+	{
+		ElementTracerInstance.instance = instance;
+	}
+	
+	// Initialized on first access; the JVM guarantees safe publication
+	private static final class ServiceLoaderHolder
+	{
+		static final ElementTracer INSTANCE = ServiceLoader.load(ElementTracer.class)
+			.stream()
+			.map(ServiceLoader.Provider::get)
+			.max(Comparator.comparing(ElementTracer::priority))
+			.orElse(NoOpElementTracer.INSTANCE);
+	}
+	
+	private ElementTracerInstance()
+	{
+	}
+}
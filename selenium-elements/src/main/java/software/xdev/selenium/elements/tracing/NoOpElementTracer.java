@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.util.function.Function;
+
+
+/**
+ * Default {@link ElementTracer} that records nothing.
+ */
+public final class NoOpElementTracer implements ElementTracer
+{
+	public static final NoOpElementTracer INSTANCE = new NoOpElementTracer();
+	
+	static final ElementSpan NOOP_SPAN = new ElementSpan()
+	{
+		@Override
+		public ElementSpan setAttribute(final String key, final Object value)
+		{
+			return this;
+		}
+		
+		@Override
+		public void recordException(final Throwable throwable)
+		{
+			// No-op
+		}
+		
+		@Override
+		public void end()
+		{
+			// No-op
+		}
+	};
+	
+	@Override
+	public boolean enabled()
+	{
+		return false;
+	}
+	
+	@Override
+	public ElementSpan startSpan(final String name)
+	{
+		return NOOP_SPAN;
+	}
+	
+	@Override
+	public <T> T trace(final String name, final Function<ElementSpan, T> action)
+	{
+		return action.apply(NOOP_SPAN);
+	}
+	
+	@Override
+	public int priority()
+	{
+		return Integer.MIN_VALUE;
+	}
+	
+	private NoOpElementTracer()
+	{
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+
+/**
+ * Writes {@link SpanData spans} in the OTLP JSON format to a file.
+ * <p>
+ * Each export appends a single line containing an <code>ExportTraceServiceRequest</code> - the same format that is
+ * written by the file exporter of the OpenTelemetry Collector. The file can therefore be imported into tools that
+ * understand OTLP (e.g. by replaying it with the Collector's <code>otlpjsonfile</code> receiver into Jaeger).
+ * </p>
+ */
+public class OtlpJsonFileExporter
+{
+	public static final String DEFAULT_SERVICE_NAME = "selenium-elements";
+	
+	protected static final int SPAN_KIND_INTERNAL = 1;
+	protected static final int STATUS_CODE_ERROR = 2;
+	
+	protected final String serviceName;
+	protected final Json json = new Json();
+	
+	public OtlpJsonFileExporter()
+	{
+		this(DEFAULT_SERVICE_NAME);
+	}
+	
+	public OtlpJsonFileExporter(final String serviceName)
+	{
+		this.serviceName = serviceName;
+	}
+	
+	public void export(final Collection<SpanData> spans, final Path file) throws IOException
+	{
+		if(spans.isEmpty())
+		{
+			return;
+		}
+		
+		try(Writer writer = Files.newBufferedWriter(
+			file,
+			StandardCharsets.UTF_8,
+			StandardOpenOption.CREATE,
+			StandardOpenOption.APPEND))
+		{
+			writer.write(this.toJson(spans));
+			writer.write('\n');
+		}
+	}
+	
+	/**
+	 * @return the spans as a single line <code>ExportTraceServiceRequest</code>
+	 */
+	public String toJson(final Collection<SpanData> spans)
+	{
+		final List<Map<String, Object>> otlpSpans = new ArrayList<>(spans.size());
+		spans.forEach(span -> otlpSpans.add(this.toOtlp(span)));
+		
+		final StringBuilder sb = new StringBuilder();
+		try(JsonOutput output = this.json.newOutput(sb))
+		{
+			output.setPrettyPrint(false).write(Map.of(
+				"resourceSpans", List.of(Map.of(
+					"resource", Map.of("attributes", List.of(attribute("service.name", this.serviceName))),
+					"scopeSpans", List.of(Map.of(
+						"scope", Map.of("name", DEFAULT_SERVICE_NAME),
+						"spans", otlpSpans))))));
+		}
+		return sb.toString();
+	}
+	
+	protected Map<String, Object> toOtlp(final SpanData span)
+	{
+		final Map<String, Object> otlp = new LinkedHashMap<>();
+		otlp.put("traceId", span.traceId());
+		otlp.put("spanId", span.spanId());
+		if(span.parentSpanId() != null)
+		{
+			otlp.put("parentSpanId", span.parentSpanId());
+		}
+		otlp.put("name", span.name());
+		otlp.put("kind", SPAN_KIND_INTERNAL);
+		// 64-bit integers are encoded as strings in OTLP JSON
+		otlp.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+		otlp.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+		
+		final List<Map<String, Object>> attributes = new ArrayList<>(span.attributes().size());
+		span.attributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+		otlp.put("attributes", attributes);
+		
+		if(span.failed())
+		{
+			final List<Map<String, Object>> exceptionAttributes = new ArrayList<>();
+			exceptionAttributes.add(attribute("exception.type", span.exceptionType()));
+			if(span.exceptionMessage() != null)
+			{
+				exceptionAttributes.add(attribute("exception.message", span.exceptionMessage()));
+			}
+			otlp.put("events", List.of(Map.of(
+				"name", "exception",
+				"timeUnixNano", Long.toString(span.endEpochNanos()),
+				"attributes", exceptionAttributes)));
+			otlp.put("status", Map.of("code", STATUS_CODE_ERROR));
+		}
+		return otlp;
+	}
+	
+	protected static Map<String, Object> attribute(final String key, final Object value)
+	{
+		final Map<String, Object> otlpValue;
+		if(value instanceof final Boolean b)
+		{
+			otlpValue = Map.of("boolValue", b);
+		}
+		else if(value instanceof final Long l)
+		{
+			otlpValue = Map.of("intValue", Long.toString(l));
+		}
+		else if(value instanceof final Double d)
+		{
+			otlpValue = Map.of("doubleValue", d);
+		}
+		else
+		{
+			otlpValue = Map.of("stringValue", String.valueOf(value));
+		}
+		return Map.of("key", key, "value", otlpValue);
+	}
+}
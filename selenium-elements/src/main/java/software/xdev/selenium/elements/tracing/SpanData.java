@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.time.Duration;
+import java.util.Map;
+
+
+/**
+ * A finished span recorded by {@link BufferingElementTracer}.
+ * <p>
+ * Ids are lowercase hex strings as used by OpenTelemetry (32 characters for trace ids, 16 for span ids).
+ * </p>
+ *
+ * @param parentSpanId       <code>null</code> for root spans
+ * @param attributes         values are {@link String}, {@link Long}, {@link Double} or {@link Boolean}
+ * @param exceptionType      the class name of the recorded exception or <code>null</code>
+ * @param exceptionMessage   the message of the recorded exception or <code>null</code>
+ */
+public record SpanData(
+	String traceId,
+	String spanId,
+	String parentSpanId,
+	String name,
+	long startEpochNanos,
+	long endEpochNanos,
+	Map<String, Object> attributes,
+	String exceptionType,
+	String exceptionMessage)
+{
+	public Duration duration()
+	{
+		return Duration.ofNanos(this.endEpochNanos - this.startEpochNanos);
+	}
+	
+	public boolean failed()
+	{
+		return this.exceptionType != null;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+
+
+/**
+ * Adapts the polling to how long it usually takes until what is waited for (e.g. an element) is present.
+ * <p>
+ * The latency is recorded per locator (see {@link WaitStrategy#until(WebDriver, Duration, Function, Object)}).
+ * Until the usual latency (the {@link #expectedPercentile}) has passed the condition is polled frequently (a fraction
+ * of the median latency), afterward the interval grows exponentially until it reaches the maximum.
+ * </p>
+ * <p>
+ * Waits without a locator or for locators without enough recorded data start at the minimum poll interval and then
+ * grow exponentially.
+ * </p>
+ */
+public class AdaptiveWaitStrategy implements WaitStrategy
+{
+	public static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofMillis(10);
+	public static final int DEFAULT_MIN_SAMPLES = 5;
+	public static final int DEFAULT_MAX_LOCATORS = 1024;
+	
+	protected static final double MEDIAN = 0.5;
+	protected static final double DEFAULT_EXPECTED_PERCENTILE = 0.9;
+	// Poll ~4 times within the median latency
+	protected static final int POLLS_PER_MEDIAN = 4;
+	// Sleep half of the time that passed after the expected latency -> interval grows by 1.5x
+	protected static final int BACKOFF_DIVISOR = 2;
+	
+	protected final PollingWaitStrategy delegate;
+	protected final Duration minPollInterval;
+	protected final Duration maxPollInterval;
+	protected final int minSamples;
+	protected final int maxLocators;
+	protected final double expectedPercentile;
+	
+	protected final Map<Object, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+	
+	public AdaptiveWaitStrategy()
+	{
+		this(
+			PollingWaitStrategy.DEFAULT,
+			DEFAULT_MIN_POLL_INTERVAL,
+			PollingWaitStrategy.DEFAULT_POLL_INTERVAL,
+			DEFAULT_MIN_SAMPLES,
+			DEFAULT_MAX_LOCATORS,
+			DEFAULT_EXPECTED_PERCENTILE);
+	}
+	
+	/**
+	 * @param delegate           provides the ignored exceptions, clock and sleeper
+	 * @param minPollInterval    the shortest interval between two attempts
+	 * @param maxPollInterval    the longest interval between two attempts
+	 * @param minSamples         how many latencies need to be recorded for a locator before they are used
+	 * @param maxLocators        the maximum amount of locators for which latencies are recorded
+	 * @param expectedPercentile until the latency of this percentile has passed the condition is polled frequently
+	 */
+	public AdaptiveWaitStrategy(
+		final PollingWaitStrategy delegate,
+		final Duration minPollInterval,
+		final Duration maxPollInterval,
+		final int minSamples,
+		final int maxLocators,
+		final double expectedPercentile)
+	{
+		this.delegate = delegate;
+		this.minPollInterval = minPollInterval;
+		this.maxPollInterval = maxPollInterval;
+		this.minSamples = minSamples;
+		this.maxLocators = maxLocators;
+		this.expectedPercentile = expectedPercentile;
+	}
+	
+	@Override
+	public <V> V until(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue)
+	{
+		return this.until(webDriver, timeout, isTrue, null);
+	}
+	
+	@Override
+	public <V> V until(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final Object locator)
+	{
+		final LatencyHistogram histogram = this.histogram(locator);
+		final PollSchedule schedule = this.schedule(histogram);
+		
+		final Instant start = this.delegate.clock().instant();
+		final V value = this.delegate.pollUntil(webDriver, timeout, isTrue, schedule);
+		if(histogram != null)
+		{
+			histogram.record(Duration.between(start, this.delegate.clock().instant()));
+		}
+		return value;
+	}
+	
+	@Override
+	public <V> CompletableFuture<V> untilAsync(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final Object locator,
+		final Executor executor)
+	{
+		final LatencyHistogram histogram = this.histogram(locator);
+		final PollSchedule schedule = this.schedule(histogram);
+		
+		final Instant start = this.delegate.clock().instant();
+		final CompletableFuture<V> future =
+			this.delegate.pollUntilAsync(webDriver, timeout, isTrue, schedule, executor);
+		if(histogram != null)
+		{
+			future.thenRun(() -> histogram.record(Duration.between(start, this.delegate.clock().instant())));
+		}
+		return future;
+	}
+	
+	protected LatencyHistogram histogram(final Object locator)
+	{
+		if(locator == null)
+		{
+			return null;
+		}
+		
+		final LatencyHistogram existing = this.histograms.get(locator);
+		if(existing != null || this.histograms.size() >= this.maxLocators)
+		{
+			return existing;
+		}
+		return this.histograms.computeIfAbsent(locator, ignored -> new LatencyHistogram());
+	}
+	
+	protected PollSchedule schedule(final LatencyHistogram histogram)
+	{
+		if(histogram == null || histogram.count() < this.minSamples)
+		{
+			return (attempt, elapsed) -> this.clamp(elapsed.dividedBy(BACKOFF_DIVISOR));
+		}
+		
+		final Duration frequentInterval = this.clamp(histogram.percentile(MEDIAN).dividedBy(POLLS_PER_MEDIAN));
+		final Duration expectedLatency = histogram.percentile(this.expectedPercentile);
+		return (attempt, elapsed) -> {
+			if(elapsed.compareTo(expectedLatency) < 0)
+			{
+				return frequentInterval;
+			}
+			final Duration backoff = elapsed.minus(expectedLatency).dividedBy(BACKOFF_DIVISOR);
+			return this.clamp(backoff.compareTo(frequentInterval) > 0 ? backoff : frequentInterval);
+		};
+	}
+	
+	protected Duration clamp(final Duration interval)
+	{
+		if(interval.compareTo(this.minPollInterval) < 0)
+		{
+			return this.minPollInterval;
+		}
+		return interval.compareTo(this.maxPollInterval) > 0 ? this.maxPollInterval : interval;
+	}
+	
+	/**
+	 * @return the recorded latencies of the locator or <code>null</code> if there are none
+	 */
+	public LatencyHistogram latencies(final Object locator)
+	{
+		return this.histograms.get(locator);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Lock-free histogram of latencies with exponentially growing buckets.
+ * <p>
+ * Bucket <code>i</code> contains latencies below <code>2^i</code> milliseconds (and at least
+ * <code>2^(i-1)</code>). The last bucket contains everything that is longer.
+ * </p>
+ */
+public class LatencyHistogram
+{
+	protected static final int BUCKETS = 18;
+	
+	protected final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	
+	public void record(final Duration latency)
+	{
+		final long millis = latency.toMillis();
+		final int bucket = millis <= 0
+			? 0
+			: Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(millis));
+		this.counts.incrementAndGet(bucket);
+	}
+	
+	public long count()
+	{
+		long count = 0;
+		for(int i = 0; i < BUCKETS; i++)
+		{
+			count += this.counts.get(i);
+		}
+		return count;
+	}
+	
+	/**
+	 * @param percentile between 0 and 1
+	 * @return the upper bound of the bucket that contains the percentile or {@link Duration#ZERO} if nothing was
+	 * recorded
+	 */
+	public Duration percentile(final double percentile)
+	{
+		final long count = this.count();
+		if(count == 0)
+		{
+			return Duration.ZERO;
+		}
+		
+		final long rank = (long)Math.ceil(count * percentile);
+		long seen = 0;
+		for(int i = 0; i < BUCKETS; i++)
+		{
+			seen += this.counts.get(i);
+			if(seen >= rank)
+			{
+				return Duration.ofMillis(1L << i);
+			}
+		}
+		return Duration.ofMillis(1L << (BUCKETS - 1));
+	}
+}
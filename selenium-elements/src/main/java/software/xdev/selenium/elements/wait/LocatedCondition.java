@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+
+
+/**
+ * A condition together with what it waits for (e.g. the {@link org.openqa.selenium.By locator}).
+ * <p>
+ * This allows to pass the locator through methods that only accept a condition, e.g.
+ * {@link software.xdev.selenium.elements.CanFindElements#waitUntil(Function, java.time.Duration)}.
+ * </p>
+ *
+ * @param locator what is waited for; must implement <code>equals</code>/<code>hashCode</code>
+ */
+public record LocatedCondition<V>(Function<? super WebDriver, V> condition, Object locator)
+	implements Function<WebDriver, V>
+{
+	@Override
+	public V apply(final WebDriver webDriver)
+	{
+		return this.condition.apply(webDriver);
+	}
+	
+	/**
+	 * @return the locator of the condition or <code>null</code> if it has none
+	 */
+	public static Object locatorOf(final Function<?, ?> condition)
+	{
+		return condition instanceof final LocatedCondition<?> located ? located.locator() : null;
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+
+
+/**
+ * Determines how long to sleep between two attempts of a wait.
+ */
+@FunctionalInterface
+public interface PollSchedule
+{
+	/**
+	 * @param attempt the number of attempts that failed so far (starts at 1)
+	 * @param elapsed the time since the wait was started
+	 * @return how long to sleep before the next attempt
+	 */
+	Duration pollInterval(int attempt, Duration elapsed);
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+
+
+/**
+ * Polls the condition with an interval that starts at {@link #pollInterval()} and is multiplied by
+ * {@link #backoffMultiplier()} after each attempt until it reaches {@link #maxPollInterval()}.
+ * <p>
+ * In contrast to {@link org.openqa.selenium.support.ui.WebDriverWait} nothing needs to be allocated for a wait as
+ * the configuration is independent of the driver and timeout and can therefore be shared.
+ * </p>
+ * <p>
+ * {@link #DEFAULT} behaves like {@link org.openqa.selenium.support.ui.WebDriverWait}.
+ * </p>
+ */
+public record PollingWaitStrategy(
+	Duration pollInterval,
+	Duration maxPollInterval,
+	double backoffMultiplier,
+	Set<Class<? extends RuntimeException>> ignoredExceptions,
+	Clock clock,
+	Sleeper sleeper
+) implements WaitStrategy, PollSchedule
+{
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(500);
+	
+	public static final PollingWaitStrategy DEFAULT = new PollingWaitStrategy(
+		DEFAULT_POLL_INTERVAL,
+		DEFAULT_POLL_INTERVAL,
+		1,
+		Set.of(NotFoundException.class),
+		Clock.systemDefaultZone(),
+		Sleeper.SYSTEM_SLEEPER);
+	
+	public PollingWaitStrategy
+	{
+		Objects.requireNonNull(pollInterval);
+		Objects.requireNonNull(maxPollInterval);
+		ignoredExceptions = Set.copyOf(ignoredExceptions);
+		Objects.requireNonNull(clock);
+		Objects.requireNonNull(sleeper);
+	}
+	
+	public PollingWaitStrategy withPollInterval(final Duration pollInterval)
+	{
+		return this.withBackoff(pollInterval, pollInterval, 1);
+	}
+	
+	public PollingWaitStrategy withBackoff(
+		final Duration pollInterval,
+		final Duration maxPollInterval,
+		final double backoffMultiplier)
+	{
+		return new PollingWaitStrategy(
+			pollInterval,
+			maxPollInterval,
+			backoffMultiplier,
+			this.ignoredExceptions,
+			this.clock,
+			this.sleeper);
+	}
+	
+	public PollingWaitStrategy withIgnoredExceptions(final Set<Class<? extends RuntimeException>> ignoredExceptions)
+	{
+		return new PollingWaitStrategy(
+			this.pollInterval,
+			this.maxPollInterval,
+			this.backoffMultiplier,
+			ignoredExceptions,
+			this.clock,
+			this.sleeper);
+	}
+	
+	public PollingWaitStrategy withClockAndSleeper(final Clock clock, final Sleeper sleeper)
+	{
+		return new PollingWaitStrategy(
+			this.pollInterval,
+			this.maxPollInterval,
+			this.backoffMultiplier,
+			this.ignoredExceptions,
+			clock,
+			sleeper);
+	}
+	
+	@Override
+	public <V> V until(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue)
+	{
+		return this.pollUntil(webDriver, timeout, isTrue, this);
+	}
+	
+	/**
+	 * Waits using the ignored exceptions, clock and sleeper of this strategy but sleeps as defined by the given
+	 * schedule.
+	 */
+	public <V> V pollUntil(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final PollSchedule schedule)
+	{
+		final Instant start = this.clock.instant();
+		final Instant end = start.plus(timeout);
+		
+		int attempt = 0;
+		RuntimeException lastException;
+		while(true)
+		{
+			attempt++;
+			try
+			{
+				final V value = isTrue.apply(webDriver);
+				if(isSatisfied(value))
+				{
+					return value;
+				}
+				lastException = null;
+			}
+			catch(final RuntimeException ex)
+			{
+				if(!this.isIgnored(ex))
+				{
+					throw ex;
+				}
+				lastException = ex;
+			}
+			
+			final Instant now = this.clock.instant();
+			if(end.isBefore(now))
+			{
+				throw this.timeoutException(webDriver, timeout, isTrue, lastException);
+			}
+			
+			try
+			{
+				this.sleeper.sleep(schedule.pollInterval(attempt, Duration.between(start, now)));
+			}
+			catch(final InterruptedException iex)
+			{
+				Thread.currentThread().interrupt();
+				throw new WebDriverException(iex);
+			}
+		}
+	}
+	
+	@Override
+	public <V> CompletableFuture<V> untilAsync(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final Object locator,
+		final Executor executor)
+	{
+		return this.pollUntilAsync(webDriver, timeout, isTrue, this, executor);
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #pollUntil(WebDriver, Duration, Function, PollSchedule)}.
+	 * <p>
+	 * Each attempt is executed by the executor. Between two attempts no thread is blocked as the next attempt is
+	 * scheduled using {@link CompletableFuture#delayedExecutor(long, TimeUnit, Executor)}. The sleeper of this
+	 * strategy is therefore not used.
+	 * </p>
+	 */
+	public <V> CompletableFuture<V> pollUntilAsync(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final PollSchedule schedule,
+		final Executor executor)
+	{
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final Instant start = this.clock.instant();
+		try
+		{
+			executor.execute(() -> this.attemptAsync(future, webDriver, timeout, isTrue, schedule, executor, start, 1));
+		}
+		catch(final RejectedExecutionException ex)
+		{
+			future.completeExceptionally(ex);
+		}
+		return future;
+	}
+	
+	@SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"}) // The future must always complete
+	protected <V> void attemptAsync(
+		final CompletableFuture<V> future,
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final PollSchedule schedule,
+		final Executor executor,
+		final Instant start,
+		final int attempt)
+	{
+		// Stop if cancelled
+		if(future.isDone())
+		{
+			return;
+		}
+		
+		RuntimeException lastException = null;
+		try
+		{
+			final V value = isTrue.apply(webDriver);
+			if(isSatisfied(value))
+			{
+				future.complete(value);
+				return;
+			}
+		}
+		catch(final RuntimeException ex)
+		{
+			if(!this.isIgnored(ex))
+			{
+				future.completeExceptionally(ex);
+				return;
+			}
+			lastException = ex;
+		}
+		catch(final Error err)
+		{
+			future.completeExceptionally(err);
+			throw err;
+		}
+		
+		final Instant now = this.clock.instant();
+		if(start.plus(timeout).isBefore(now))
+		{
+			future.completeExceptionally(this.timeoutException(webDriver, timeout, isTrue, lastException));
+			return;
+		}
+		
+		final Duration interval = schedule.pollInterval(attempt, Duration.between(start, now));
+		try
+		{
+			CompletableFuture.delayedExecutor(interval.toNanos(), TimeUnit.NANOSECONDS, executor)
+				.execute(() -> this.attemptAsync(
+					future,
+					webDriver,
+					timeout,
+					isTrue,
+					schedule,
+					executor,
+					start,
+					attempt + 1));
+		}
+		catch(final RejectedExecutionException ex)
+		{
+			future.completeExceptionally(ex);
+		}
+	}
+	
+	/**
+	 * @return if the value fulfills the condition, i.e. it's neither <code>null</code> nor <code>false</code>
+	 */
+	protected static boolean isSatisfied(final Object value)
+	{
+		return value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value));
+	}
+	
+	@Override
+	public Duration pollInterval(final int attempt, final Duration elapsed)
+	{
+		if(this.backoffMultiplier <= 1 || attempt <= 1)
+		{
+			return this.pollInterval;
+		}
+		
+		final double nanos = this.pollInterval.toNanos() * Math.pow(this.backoffMultiplier, attempt - 1);
+		return nanos < this.maxPollInterval.toNanos()
+			? Duration.ofNanos((long)nanos)
+			: this.maxPollInterval;
+	}
+	
+	protected boolean isIgnored(final RuntimeException ex)
+	{
+		for(final Class<? extends RuntimeException> ignoredException : this.ignoredExceptions)
+		{
+			if(ignoredException.isInstance(ex))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	// Same as WebDriverWait
+	protected TimeoutException timeoutException(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<?, ?> isTrue,
+		final Throwable lastException)
+	{
+		final TimeoutException ex = new TimeoutException(
+			String.format(
+				"Expected condition failed: waiting for %s (tried for %d second(s) with %d milliseconds interval)",
+				isTrue,
+				timeout.getSeconds(),
+				this.pollInterval.toMillis()),
+			lastException);
+		
+		WebDriver exceptionDriver = webDriver;
+		ex.addInfo(WebDriverException.DRIVER_INFO, exceptionDriver.getClass().getName());
+		while(exceptionDriver instanceof final WrapsDriver wrapsDriver)
+		{
+			exceptionDriver = wrapsDriver.getWrappedDriver();
+		}
+		if(exceptionDriver instanceof final RemoteWebDriver remoteWebDriver)
+		{
+			if(remoteWebDriver.getSessionId() != null)
+			{
+				ex.addInfo(WebDriverException.SESSION_ID, remoteWebDriver.getSessionId().toString());
+			}
+			if(remoteWebDriver.getCapabilities() != null)
+			{
+				ex.addInfo("Capabilities", remoteWebDriver.getCapabilities().toString());
+			}
+		}
+		return ex;
+	}
+}
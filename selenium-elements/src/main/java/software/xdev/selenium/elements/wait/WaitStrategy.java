@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+
+
+/**
+ * Defines how to wait until a condition is met, e.g. the polling interval, its backoff and which exceptions are
+ * ignored.
+ * <p>
+ * Implementations are used by multiple threads and drivers concurrently and should therefore be immutable.
+ * </p>
+ *
+ * @see WaitStrategyInstance
+ */
+public interface WaitStrategy
+{
+	/**
+	 * Repeatedly applies the condition until it returns neither <code>null</code> nor <code>false</code>.
+	 *
+	 * @throws org.openqa.selenium.TimeoutException if the timeout expires
+	 */
+	<V> V until(WebDriver webDriver, Duration timeout, Function<? super WebDriver, V> isTrue);
+	
+	/**
+	 * Same as {@link #until(WebDriver, Duration, Function)} but additionally provides what is waited for (e.g. the
+	 * {@link org.openqa.selenium.By locator}) so that strategies can adapt to it.
+	 *
+	 * @param locator what is waited for; must implement <code>equals</code>/<code>hashCode</code>, may be
+	 *                <code>null</code>
+	 */
+	default <V> V until(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final Object locator)
+	{
+		return this.until(webDriver, timeout, isTrue);
+	}
+	
+	/**
+	 * Asynchronous variant of {@link #until(WebDriver, Duration, Function, Object)}.
+	 * <p>
+	 * The returned future completes with the value or exceptionally (e.g. with a
+	 * {@link org.openqa.selenium.TimeoutException}). Cancelling it stops the wait.
+	 * </p>
+	 * <p>
+	 * The default implementation occupies a thread of the executor for the whole wait. Implementations should
+	 * override this so that no thread is blocked between two attempts.
+	 * </p>
+	 *
+	 * @param executor executes the attempts
+	 */
+	default <V> CompletableFuture<V> untilAsync(
+		final WebDriver webDriver,
+		final Duration timeout,
+		final Function<? super WebDriver, V> isTrue,
+		final Object locator,
+		final Executor executor)
+	{
+		return CompletableFuture.supplyAsync(() -> this.until(webDriver, timeout, isTrue, locator), executor);
+	}
+	
+	default int priority()
+	{
+		return 0;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.util.Comparator;
+import java.util.ServiceLoader;
+
+
+/**
+ * Provides the {@link WaitStrategy} that should be used.
+ * <p>
+ * If no instance is set the one with the highest {@link WaitStrategy#priority()} loaded using the
+ * {@link ServiceLoader} is used or {@link PollingWaitStrategy#DEFAULT} if there is none.
+ * </p>
+ */
+public final class WaitStrategyInstance
+{
+	private static volatile WaitStrategy instance;
+	
+	public static WaitStrategy instance()
+	{
+		final WaitStrategy globalInstance = instance;
+		return globalInstance != null
+			? globalInstance
+			: ServiceLoaderHolder.INSTANCE;
+	}
+	
+	/**
+	 * Sets the global instance. <code>null</code> restores the default instance.
+	 */
+	public static void setInstance(final WaitStrategy instance)
+	{
+		WaitStrategyInstance.instance = instance;
+	}
+	
+	// Initialized on first access; the JVM guarantees safe publication
+	private static final class ServiceLoaderHolder
+	{
+		static final WaitStrategy INSTANCE = ServiceLoader.load(WaitStrategy.class)
+			.stream()
+			.map(ServiceLoader.Provider::get)
+			.max(Comparator.comparing(WaitStrategy::priority))
+			.orElse(PollingWaitStrategy.DEFAULT);
+	}
+	
+	private WaitStrategyInstance()
+	{
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+
+class ByAndTest
+{
+	private final WebElement a = Fakes.element();
+	private final WebElement b = Fakes.element();
+	private final WebElement c = Fakes.element();
+	
+	private static SearchContext context(final Map<By, List<WebElement>> results)
+	{
+		return Fakes.searchContext((methodName, args) -> results.get((By)args[0]));
+	}
+	
+	@Test
+	void intersectionKeepsOrderOfFirstLocator()
+	{
+		final SearchContext context = context(Map.of(
+			By.xpath("//first"), List.of(this.c, this.a, this.b),
+			By.xpath("//second"), List.of(this.b, this.c)));
+		
+		Assertions.assertEquals(
+			List.of(this.c, this.b),
+			new ByAnd(By.xpath("//first"), By.xpath("//second")).findElements(context));
+	}
+	
+	@Test
+	void intersectionRemovesDuplicates()
+	{
+		final SearchContext context = context(Map.of(
+			By.xpath("//first"), List.of(this.a, this.b, this.a),
+			By.xpath("//second"), List.of(this.a, this.a, this.b, this.c)));
+		
+		Assertions.assertEquals(
+			List.of(this.a, this.b),
+			new ByAnd(By.xpath("//first"), By.xpath("//second")).findElements(context));
+	}
+	
+	@Test
+	void emptyIntersectionStopsSearching()
+	{
+		final SearchContext context = context(Map.of(
+			By.xpath("//first"), List.of(this.a),
+			By.xpath("//second"), List.of(this.b)));
+		
+		// The third locator would fail as there is no result for it
+		Assertions.assertEquals(
+			List.of(),
+			new ByAnd(By.xpath("//first"), By.xpath("//second"), By.xpath("//third")).findElements(context));
+		Assertions.assertThrows(
+			NoSuchElementException.class,
+			() -> new ByAnd(By.xpath("//first"), By.xpath("//second")).findElement(context));
+	}
+}
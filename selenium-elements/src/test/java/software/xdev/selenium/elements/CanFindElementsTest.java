@@ -0,0 +1,344 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import software.xdev.selenium.elements.annotation.FindBySelector;
+import software.xdev.selenium.elements.metrics.ElementMetrics;
+import software.xdev.selenium.elements.metrics.MetricSnapshot;
+import software.xdev.selenium.elements.metrics.RecordingElementMetrics;
+import software.xdev.selenium.elements.tracing.BufferingElementTracer;
+import software.xdev.selenium.elements.tracing.ElementTracer;
+import software.xdev.selenium.elements.tracing.SpanData;
+import software.xdev.selenium.elements.wait.LocatedCondition;
+
+
+class CanFindElementsTest
+{
+	private final List<String> driverCalls = new ArrayList<>();
+	private final List<Duration> implicitWaitChanges = new ArrayList<>();
+	private Duration implicitWait = Duration.ZERO;
+	private final WebElement documentElement = Fakes.element();
+	private final WebDriver driver = Fakes.driver((methodName, args) -> this.onDriverCall(methodName));
+	
+	private Object onDriverCall(final String methodName)
+	{
+		this.driverCalls.add(methodName);
+		return switch(methodName)
+		{
+			case "executeScript" -> List.of(0L, this.documentElement);
+			case "findElement" -> this.documentElement;
+			case "findElements" -> List.of(this.documentElement);
+			case "manage" -> Fakes.fake(
+				WebDriver.Options.class,
+				(name, args) -> "timeouts".equals(name) ? this.timeouts() : null);
+			default -> null;
+		};
+	}
+	
+	private WebDriver.Timeouts timeouts()
+	{
+		return Fakes.fake(
+			WebDriver.Timeouts.class,
+			(methodName, args) -> {
+				this.driverCalls.add(methodName);
+				if("implicitlyWait".equals(methodName))
+				{
+					this.implicitWait = (Duration)args[0];
+					this.implicitWaitChanges.add(this.implicitWait);
+					return null;
+				}
+				return "getImplicitWaitTimeout".equals(methodName) ? this.implicitWait : null;
+			});
+	}
+	
+	private CanFindElements canFindElements(final SearchContext searchContext)
+	{
+		return new CanFindElements()
+		{
+			@Override
+			public WebDriver getWebDriver()
+			{
+				return CanFindElementsTest.this.driver;
+			}
+			
+			@Override
+			public SearchContext determineSearchContext(final WebDriver webDriver)
+			{
+				return searchContext;
+			}
+		};
+	}
+	
+	@Test
+	void waitForAnyUsesScriptForDriver()
+	{
+		final WebElement found = this.canFindElements(this.driver).waitForAny(Duration.ofSeconds(1), TestElement.class);
+		
+		Assertions.assertInstanceOf(TestElement.class, found);
+		Assertions.assertSame(this.documentElement, ((TestElement)found).getWrappedElement());
+		Assertions.assertEquals(List.of("executeScript"), this.driverCalls);
+	}
+	
+	@Test
+	void waitForAnyStaysInsideOtherSearchContexts()
+	{
+		final WebElement scopedElement = Fakes.element();
+		// e.g. a shadow root
+		final SearchContext shadowRoot = Fakes.searchContext(
+			(methodName, args) -> "findElements".equals(methodName) ? List.of(scopedElement) : null);
+		
+		final WebElement found = this.canFindElements(shadowRoot).waitForAny(Duration.ofSeconds(1), TestElement.class);
+		
+		Assertions.assertSame(scopedElement, ((TestElement)found).getWrappedElement());
+		Assertions.assertFalse(this.driverCalls.contains("executeScript"));
+	}
+	
+	@Test
+	void waitForAnyRejectsClassesWithoutSelector()
+	{
+		final CanFindElements canFindElements = this.canFindElements(this.driver);
+		
+		Assertions.assertThrows(
+			IllegalArgumentException.class,
+			() -> canFindElements.waitForAny(Duration.ofSeconds(1), TestElement.class, NoSelectorElement.class));
+		Assertions.assertThrows(
+			IllegalArgumentException.class,
+			() -> canFindElements.waitForAny(Duration.ofSeconds(1), String.class));
+		Assertions.assertTrue(this.driverCalls.isEmpty());
+	}
+	
+	@Test
+	void lookupsDontChangeZeroImplicitWait()
+	{
+		final CanFindElements canFindElements = this.canFindElements(this.driver);
+		
+		Assertions.assertTrue(canFindElements.exists(TestElement.class));
+		Assertions.assertSame(this.documentElement, canFindElements.findFirstOrNull(By.id("test")));
+		Assertions.assertEquals(1, canFindElements.findAll(TestElement.class).size());
+		
+		Assertions.assertTrue(this.implicitWaitChanges.isEmpty());
+	}
+	
+	@Test
+	void lookupsRestoreImplicitWaitOfSession()
+	{
+		this.implicitWait = Duration.ofSeconds(5);
+		final CanFindElements canFindElements = this.canFindElements(this.driver);
+		Assertions.assertTrue(canFindElements.exists(By.id("test")));
+		
+		// Changed directly on the driver
+		this.implicitWait = Duration.ofSeconds(3);
+		Assertions.assertNotNull(canFindElements.findFirstOrNull(TestElement.class));
+		
+		Assertions.assertEquals(
+			List.of(Duration.ZERO, Duration.ofSeconds(5), Duration.ZERO, Duration.ofSeconds(3)),
+			this.implicitWaitChanges);
+		Assertions.assertEquals(Duration.ofSeconds(3), this.implicitWait);
+	}
+	
+	@Test
+	void lookupsDisableImplicitWaitSetAfterFirstLookup()
+	{
+		final CanFindElements canFindElements = this.canFindElements(this.driver);
+		Assertions.assertTrue(canFindElements.exists(By.id("test")));
+		
+		// Changed directly on the driver
+		this.implicitWait = Duration.ofSeconds(5);
+		Assertions.assertTrue(canFindElements.exists(By.id("test")));
+		
+		Assertions.assertEquals(List.of(Duration.ZERO, Duration.ofSeconds(5)), this.implicitWaitChanges);
+	}
+	
+	@Test
+	void waitForFirstUsesOverriddenWaitUntil()
+	{
+		final List<Object> locators = new ArrayList<>();
+		final CanFindElements canFindElements = new CanFindElements()
+		{
+			@Override
+			public WebDriver getWebDriver()
+			{
+				return CanFindElementsTest.this.driver;
+			}
+			
+			@Override
+			public <V> V waitUntil(final Function<WebDriver, V> isTrue, final Duration duration)
+			{
+				locators.add(LocatedCondition.locatorOf(isTrue));
+				return isTrue.apply(this.getWebDriver());
+			}
+		};
+		
+		Assertions.assertNotNull(canFindElements.waitForFirst(By.id("a")));
+		Assertions.assertNotNull(canFindElements.waitForFirst(TestElement.class));
+		
+		Assertions.assertEquals(List.of(By.id("a"), By.cssSelector("#test")), locators);
+	}
+	
+	@Test
+	void waitUntilAsyncRecordsMetricsAndSpan()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics();
+		final BufferingElementTracer tracer = new BufferingElementTracer();
+		final CanFindElements canFindElements = this.measuredCanFindElements(metrics, tracer);
+		
+		final CompletableFuture<String> succeeding =
+			canFindElements.waitUntilAsync(wd -> "found", Duration.ofSeconds(1), "ok");
+		final CompletableFuture<String> failing = canFindElements.waitUntilAsync(
+			wd -> {
+				throw new IllegalStateException("failed");
+			},
+			Duration.ofSeconds(1),
+			"fail");
+		
+		// The span of the wait must not become the active span of the calling thread
+		tracer.startSpan("caller").end();
+		
+		Assertions.assertEquals("found", succeeding.join());
+		Assertions.assertThrows(CompletionException.class, failing::join);
+		
+		final Map<String, MetricSnapshot> waits = metrics.snapshot().stream()
+			.collect(Collectors.toMap(MetricSnapshot::name, Function.identity()));
+		Assertions.assertEquals(1, waits.get("waitUntil ok").iterations());
+		Assertions.assertEquals(1, waits.get("waitUntil fail").count());
+		
+		final Map<String, SpanData> spans = tracer.spans().stream()
+			.collect(Collectors.toMap(span -> String.valueOf(span.attributes().get("locator")), Function.identity()));
+		Assertions.assertNull(spans.get("null").parentSpanId());
+		Assertions.assertEquals(1L, spans.get("ok").attributes().get("poll.count"));
+		Assertions.assertFalse(spans.get("ok").failed());
+		Assertions.assertEquals(IllegalStateException.class.getName(), spans.get("fail").exceptionType());
+	}
+	
+	@Test
+	void cancellingWaitUntilAsyncCancelsWait()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics();
+		final CanFindElements canFindElements = this.measuredCanFindElements(metrics, new BufferingElementTracer());
+		
+		final CompletableFuture<Object> future =
+			canFindElements.waitUntilAsync(wd -> null, Duration.ofSeconds(30), "cancelled");
+		future.cancel(false);
+		
+		Assertions.assertEquals(1, metrics.snapshot().size());
+	}
+	
+	private CanFindElements measuredCanFindElements(final ElementMetrics metrics, final ElementTracer tracer)
+	{
+		return new CanFindElements()
+		{
+			@Override
+			public WebDriver getWebDriver()
+			{
+				return CanFindElementsTest.this.driver;
+			}
+			
+			@Override
+			public ElementMetrics elementMetrics()
+			{
+				return metrics;
+			}
+			
+			@Override
+			public ElementTracer elementTracer()
+			{
+				return tracer;
+			}
+		};
+	}
+	
+	@Test
+	void getPropertiesReadsAllValuesWithSingleScript()
+	{
+		final WebElement first = Fakes.element();
+		final WebElement second = Fakes.element();
+		final List<Object[]> scriptArgs = new ArrayList<>();
+		// A value is null if the property (or a part of the path) is missing
+		final List<List<Object>> values = List.of(
+			List.of("a", 1L, true),
+			Arrays.asList(null, null, null),
+			List.of("b", 1.5, "no boolean"));
+		final WebDriver propertyDriver = Fakes.driver((methodName, args) -> {
+			if("executeScript".equals(methodName))
+			{
+				scriptArgs.add((Object[])args[1]);
+				return values;
+			}
+			return null;
+		});
+		
+		final PropertyMatrix matrix = ((CanFindElements)() -> propertyDriver).getProperties(
+			List.of(first, second, first),
+			List.of(List.of("value"), List.of("dataset", "count"), List.of("checked")));
+		
+		Assertions.assertEquals(1, scriptArgs.size());
+		Assertions.assertEquals(List.of(first, second, first), scriptArgs.get(0)[0]);
+		Assertions.assertEquals(
+			List.of(List.of("value"), List.of("dataset", "count"), List.of("checked")),
+			scriptArgs.get(0)[1]);
+		
+		Assertions.assertEquals(3, matrix.size());
+		Assertions.assertEquals("a", matrix.getString(0, 0));
+		Assertions.assertEquals(1, matrix.getInt(0, 1));
+		Assertions.assertEquals(Boolean.TRUE, matrix.getBool(0, 2));
+		
+		Assertions.assertNull(matrix.get(1, 0));
+		Assertions.assertNull(matrix.getString(1, 0));
+		Assertions.assertNull(matrix.getInt(1, 1));
+		Assertions.assertNull(matrix.getBool(1, 2));
+		
+		// Same coercions as ImprovedWebElement#getIntProperty etc.
+		Assertions.assertEquals(1, matrix.getInt(2, 1));
+		Assertions.assertNull(matrix.getString(2, 1));
+		Assertions.assertNull(matrix.getBool(2, 2));
+	}
+	
+	@Test
+	void getPropertiesOfNoElementsExecutesNoScript()
+	{
+		final PropertyMatrix matrix =
+			((CanFindElements)() -> this.driver).getProperties(List.of(), List.of(List.of("value")));
+		
+		Assertions.assertEquals(0, matrix.size());
+		Assertions.assertEquals(List.of(), this.driverCalls);
+	}
+	
+	@FindBySelector(id = "test")
+	public abstract static class TestElement implements ImprovedWebElement
+	{
+	}
+	
+	public abstract static class NoSelectorElement implements ImprovedWebElement
+	{
+	}
+}
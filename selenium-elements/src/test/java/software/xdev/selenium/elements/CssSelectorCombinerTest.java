@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.By;
+
+
+class CssSelectorCombinerTest
+{
+	@MethodSource
+	@ParameterizedTest
+	void toCssSelector(final By by, final String expected)
+	{
+		Assertions.assertEquals(expected, CssSelectorCombiner.toCssSelector(by));
+	}
+	
+	static Stream<Arguments> toCssSelector()
+	{
+		return Stream.of(
+			Arguments.of(By.id("abc"), "#abc"),
+			Arguments.of(By.id("1a b"), "#\\31 a\\ b"),
+			Arguments.of(By.className("cls"), ".cls"),
+			Arguments.of(By.name("it's"), "[name='it\\'s']"),
+			Arguments.of(By.tagName("div"), "div"),
+			Arguments.of(By.cssSelector("div > span"), "div > span"),
+			Arguments.of(By.xpath("//div"), null),
+			Arguments.of(By.linkText("abc"), null),
+			Arguments.of(new ByAnd(By.id("abc")), null)
+		);
+	}
+	
+	@MethodSource
+	@ParameterizedTest
+	void combine(final List<String> cssSelectors, final String expected)
+	{
+		Assertions.assertEquals(expected, CssSelectorCombiner.combine(cssSelectors));
+	}
+	
+	static Stream<Arguments> combine()
+	{
+		return Stream.of(
+			Arguments.of(List.of("div > span"), "div > span"),
+			Arguments.of(List.of("#abc", ".cls", "div", "[name='x']"), "div#abc.cls[name='x']"),
+			Arguments.of(List.of("#abc", "div > span"), "#abc:is(div > span)"),
+			Arguments.of(List.of("div", "span"), "div:is(span)"),
+			Arguments.of(List.of(".a", "[title='x y']"), ".a[title='x y']"),
+			Arguments.of(List.of(".a", "a, b"), ".a:is(a, b)")
+		);
+	}
+	
+	@Test
+	void byAndCombinesCssSelectors()
+	{
+		final By[] bys = ByAnd.combineCssSelectors(new By[]{
+			By.id("abc"),
+			By.xpath("//div"),
+			By.tagName("div")});
+		
+		Assertions.assertEquals(2, bys.length);
+		Assertions.assertEquals(By.cssSelector("div#abc"), bys[0]);
+		Assertions.assertEquals(By.xpath("//div"), bys[1]);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+
+class ElementReferenceCacheTest
+{
+	private final AtomicReference<String> domVersion = new AtomicReference<>("page:0");
+	private final AtomicInteger driverCalls = new AtomicInteger();
+	private final WebDriver driver = Fakes.driver((methodName, args) -> {
+		this.driverCalls.incrementAndGet();
+		return "executeScript".equals(methodName) ? this.domVersion.get() : null;
+	});
+	private final AtomicInteger lookups = new AtomicInteger();
+	
+	private WebElement lookup(final ElementReferenceCache cache, final By by)
+	{
+		return cache.computeIfAbsent(
+			this.driver,
+			this.driver,
+			by,
+			() -> {
+				this.lookups.incrementAndGet();
+				return Fakes.element((methodName, args) -> {
+					if("click".equals(methodName))
+					{
+						// e.g. the element is replaced
+						this.domVersion.set("page:" + this.lookups.get());
+					}
+					return null;
+				});
+			});
+	}
+	
+	@Test
+	void lookupAfterClickFindsNewElement()
+	{
+		final ElementReferenceCache cache = new ElementReferenceCache();
+		final WebElement first = this.lookup(cache, By.id("a"));
+		
+		first.click();
+		
+		Assertions.assertNotSame(first, this.lookup(cache, By.id("a")));
+		Assertions.assertEquals(2, this.lookups.get());
+	}
+	
+	@Test
+	void hitWithinMaxAgeMakesNoDriverCall()
+	{
+		final ElementReferenceCache cache =
+			new ElementReferenceCache(ElementReferenceCache.DEFAULT_MAX_SIZE, Duration.ofSeconds(10));
+		final WebElement first = this.lookup(cache, By.id("a"));
+		Assertions.assertEquals(1, this.driverCalls.get());
+		
+		Assertions.assertSame(first, this.lookup(cache, By.id("a")));
+		Assertions.assertEquals(1, this.driverCalls.get());
+		Assertions.assertEquals(1, this.lookups.get());
+	}
+	
+	@Test
+	void cachedWhileDomIsUnchanged()
+	{
+		final ElementReferenceCache cache = new ElementReferenceCache();
+		final WebElement first = this.lookup(cache, By.id("a"));
+		Assertions.assertSame(first, this.lookup(cache, By.id("a")));
+		Assertions.assertEquals(1, this.lookups.get());
+		
+		this.domVersion.set("page:1");
+		Assertions.assertNotSame(first, this.lookup(cache, By.id("a")));
+		Assertions.assertEquals(2, this.lookups.get());
+	}
+	
+	@Test
+	void leastRecentlyUsedIsEvicted()
+	{
+		final ElementReferenceCache cache = new ElementReferenceCache(2, Duration.ZERO);
+		this.lookup(cache, By.id("a"));
+		this.lookup(cache, By.id("b"));
+		this.lookup(cache, By.id("a"));
+		this.lookup(cache, By.id("c"));
+		Assertions.assertEquals(2, cache.size());
+		
+		this.lookup(cache, By.id("a"));
+		Assertions.assertEquals(3, this.lookups.get());
+		this.lookup(cache, By.id("b"));
+		Assertions.assertEquals(4, this.lookups.get());
+	}
+	
+	@Test
+	void invalidatingListenerClearsCache()
+	{
+		final ElementReferenceCache cache =
+			new ElementReferenceCache(ElementReferenceCache.DEFAULT_MAX_SIZE, Duration.ofSeconds(10));
+		final WebElement first = this.lookup(cache, By.id("a"));
+		
+		cache.invalidatingListener().afterClick(first);
+		
+		Assertions.assertEquals(0, cache.size());
+		Assertions.assertNotSame(first, this.lookup(cache, By.id("a")));
+	}
+}
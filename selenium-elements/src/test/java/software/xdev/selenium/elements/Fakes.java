@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements;
+
+import java.lang.reflect.Proxy;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+
+/**
+ * Creates fake Selenium objects (e.g. {@link WebDriver drivers} or {@link WebElement elements}) for tests.
+ * <p>
+ * The fakes implement <code>equals</code>/<code>hashCode</code>/<code>toString</code> based on their identity (e.g.
+ * so that they can be used as keys of a {@link java.util.WeakHashMap}). All other calls are answered by the given
+ * {@link Answer} - or with <code>null</code> if there is none.
+ * </p>
+ */
+public final class Fakes
+{
+	@FunctionalInterface
+	public interface Answer
+	{
+		Answer NULL = (methodName, args) -> null;
+		
+		Object answer(String methodName, Object[] args) throws Throwable;
+	}
+	
+	/**
+	 * @return a fake {@link WebDriver} that also implements {@link JavascriptExecutor}
+	 */
+	public static WebDriver driver(final Answer answer)
+	{
+		return fake(WebDriver.class, answer, JavascriptExecutor.class);
+	}
+	
+	public static WebDriver driver()
+	{
+		return driver(Answer.NULL);
+	}
+	
+	public static WebElement element(final Answer answer, final Class<?>... additionalInterfaces)
+	{
+		return fake(WebElement.class, answer, additionalInterfaces);
+	}
+	
+	public static WebElement element()
+	{
+		return element(Answer.NULL);
+	}
+	
+	public static SearchContext searchContext(final Answer answer)
+	{
+		return fake(SearchContext.class, answer);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static <T> T fake(final Class<T> type, final Answer answer, final Class<?>... additionalInterfaces)
+	{
+		return (T)Proxy.newProxyInstance(
+			type.getClassLoader(),
+			Stream.concat(Stream.of(type), Stream.of(additionalInterfaces)).toArray(Class<?>[]::new),
+			(proxy, method, args) -> switch(method.getName())
+			{
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+				default -> answer.answer(method.getName(), args);
+			});
+	}
+	
+	private Fakes()
+	{
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.annotation;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.By;
+
+import software.xdev.selenium.elements.ByAnd;
+
+
+class FindBySelectorBuilderTest
+{
+	@MethodSource
+	@ParameterizedTest
+	void build(final Class<?> clazz, final By expected)
+	{
+		Assertions.assertEquals(
+			expected,
+			new FindBySelector.Builder().build(clazz.getAnnotation(FindBySelector.class)));
+	}
+	
+	static Stream<Arguments> build()
+	{
+		return Stream.of(
+			Arguments.of(Empty.class, null),
+			Arguments.of(Id.class, By.cssSelector("#abc")),
+			Arguments.of(AllCss.class, By.cssSelector("input#abc.part.exact[name='n']")),
+			Arguments.of(XPath.class, By.xpath("//div"))
+		);
+	}
+	
+	@Test
+	void buildMixed()
+	{
+		final By by = new FindBySelector.Builder().build(Mixed.class.getAnnotation(FindBySelector.class));
+		
+		Assertions.assertInstanceOf(ByAnd.class, by);
+		Assertions.assertEquals(
+			ByAnd.combining(By.id("abc"), By.xpath("//div"), By.tagName("div")).toString(),
+			by.toString());
+	}
+	
+	@FindBySelector
+	static class Empty
+	{
+	}
+	
+	@FindBySelector(id = "abc")
+	static class Id
+	{
+	}
+	
+	@FindBySelector(id = "abc", classNamePart = "part", classNameExact = "exact", name = "n", tagName = "input")
+	static class AllCss
+	{
+	}
+	
+	@FindBySelector(xpath = "//div")
+	static class XPath
+	{
+	}
+	
+	@FindBySelector(id = "abc", xpath = "//div", tagName = "div")
+	static class Mixed
+	{
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.annotation.AnnotationSelectorBuilder;
+import software.xdev.selenium.elements.annotation.FindBySelector;
+
+
+class DefaultElementInstantiatorTest
+{
+	@BeforeEach
+	void reset()
+	{
+		CountingBuilder.INSTANCES.set(0);
+		CountingBuilder.BUILDS.set(0);
+		NonCacheableBuilder.INSTANCES.set(0);
+		NonCacheableBuilder.BUILDS.set(0);
+	}
+	
+	@Test
+	void selectorIsBuiltOncePerClass()
+	{
+		final DefaultElementInstantiator instantiator = new DefaultElementInstantiator();
+		
+		final By first = instantiator.buildSelector(CountedElement.class);
+		final By second = instantiator.buildSelector(CountedElement.class);
+		
+		Assertions.assertEquals(By.id("counted"), first);
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(1, CountingBuilder.INSTANCES.get());
+		Assertions.assertEquals(1, CountingBuilder.BUILDS.get());
+		
+		// Builders are reused across element classes
+		Assertions.assertEquals(By.id("other"), instantiator.buildSelector(OtherCountedElement.class));
+		Assertions.assertEquals(1, CountingBuilder.INSTANCES.get());
+		Assertions.assertEquals(2, CountingBuilder.BUILDS.get());
+	}
+	
+	@Test
+	void nonCacheableBuilderIsCreatedAndInvokedOnEachCall()
+	{
+		final DefaultElementInstantiator instantiator = new DefaultElementInstantiator();
+		
+		Assertions.assertEquals(By.id("dynamic-1"), instantiator.buildSelector(NonCacheableElement.class));
+		Assertions.assertEquals(By.id("dynamic-2"), instantiator.buildSelector(NonCacheableElement.class));
+		
+		Assertions.assertEquals(2, NonCacheableBuilder.BUILDS.get());
+		Assertions.assertTrue(
+			NonCacheableBuilder.INSTANCES.get() >= 2,
+			"Expected a new builder per call but got " + NonCacheableBuilder.INSTANCES.get());
+	}
+	
+	public static class CountingBuilder implements AnnotationSelectorBuilder
+	{
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+		static final AtomicInteger BUILDS = new AtomicInteger();
+		
+		public CountingBuilder()
+		{
+			INSTANCES.incrementAndGet();
+		}
+		
+		@Override
+		public By build(final Object annotation)
+		{
+			BUILDS.incrementAndGet();
+			return By.id(((FindBySelector)annotation).id());
+		}
+	}
+	
+	public static class NonCacheableBuilder implements AnnotationSelectorBuilder
+	{
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+		static final AtomicInteger BUILDS = new AtomicInteger();
+		
+		public NonCacheableBuilder()
+		{
+			INSTANCES.incrementAndGet();
+		}
+		
+		@Override
+		public By build(final Object annotation)
+		{
+			return By.id(((FindBySelector)annotation).id() + "-" + BUILDS.incrementAndGet());
+		}
+		
+		@Override
+		public boolean cacheable()
+		{
+			return false;
+		}
+	}
+	
+	@FindBySelector(id = "counted", builder = CountingBuilder.class)
+	public abstract static class CountedElement implements ImprovedWebElement
+	{
+	}
+	
+	@FindBySelector(id = "other", builder = CountingBuilder.class)
+	public abstract static class OtherCountedElement implements ImprovedWebElement
+	{
+	}
+	
+	@FindBySelector(id = "dynamic", builder = NonCacheableBuilder.class)
+	public abstract static class NonCacheableElement implements ImprovedWebElement
+	{
+	}
+}
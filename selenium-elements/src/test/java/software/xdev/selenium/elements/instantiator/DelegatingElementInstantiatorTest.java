@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import javassist.util.proxy.ProxyObject;
+import software.xdev.selenium.elements.Fakes;
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+class DelegatingElementInstantiatorTest
+{
+	private final DelegatingElementInstantiator instantiator = new DelegatingElementInstantiator();
+	
+	@Test
+	void delegatesAbstractMethods()
+	{
+		final List<String> calls = new ArrayList<>();
+		final WebElement delegate = Fakes.element((methodName, args) -> {
+			calls.add(methodName);
+			return "getText".equals(methodName) ? "text" : null;
+		});
+		
+		final TestElement element = this.instantiator.proxyWebElement(TestElement.class, delegate);
+		
+		Assertions.assertFalse(element instanceof ProxyObject);
+		Assertions.assertTrue(element.getClass().getName().contains("$$Delegating"));
+		Assertions.assertEquals("text", element.getText());
+		element.nativeClick();
+		element.sendKeys("abc");
+		Assertions.assertEquals(List.of("getText", "click", "sendKeys"), calls);
+	}
+	
+	@Test
+	void generatesClassOncePerElementClass()
+	{
+		final WebElement delegate = new ImprovedRemoteWebElement("() => true");
+		
+		Assertions.assertSame(
+			this.instantiator.proxyWebElement(TestElement.class, delegate).getClass(),
+			new DelegatingElementInstantiator().proxyWebElement(TestElement.class, delegate).getClass());
+	}
+	
+	@Test
+	void rethrowsSeleniumExceptionsUnwrapped()
+	{
+		final StaleElementReferenceException ex = new StaleElementReferenceException("stale");
+		final WebElement delegate = Fakes.element((methodName, args) -> {
+			throw ex;
+		});
+		
+		final TestElement element = this.instantiator.proxyWebElement(TestElement.class, delegate);
+		
+		Assertions.assertSame(ex, Assertions.assertThrows(StaleElementReferenceException.class, element::nativeClick));
+	}
+	
+	@Test
+	void cachesWrappedElements()
+	{
+		final ImprovedRemoteWebElement remoteElement = new ImprovedRemoteWebElement("() => true");
+		final AtomicInteger unwrapCalls = new AtomicInteger();
+		final WebElement decorated = Fakes.element(
+			(methodName, args) -> {
+				if("getWrappedElement".equals(methodName))
+				{
+					unwrapCalls.incrementAndGet();
+					return remoteElement;
+				}
+				return null;
+			},
+			WrapsElement.class);
+		
+		final TestElement element = this.instantiator.proxyWebElement(TestElement.class, decorated);
+		final int unwrapCallsAfterCreation = unwrapCalls.get();
+		
+		Assertions.assertSame(decorated, element.getWrappedElement());
+		Assertions.assertSame(remoteElement, element.getWrappedRemoteElement());
+		Assertions.assertSame(remoteElement, element.getWrappedRemoteElement());
+		Assertions.assertEquals(unwrapCallsAfterCreation, unwrapCalls.get());
+	}
+	
+	@Test
+	void fallsBackToProxyForUnsupportedClasses()
+	{
+		final DefaultElementInstantiator defaultInstantiator = new DefaultElementInstantiator();
+		final WebElement delegate = new ImprovedRemoteWebElement("() => true");
+		
+		for(final Class<? extends WebElement> clazz : List.of(
+			FinalElement.class,
+			NoUsableConstructorElement.class))
+		{
+			Assertions.assertNull(DelegatingElementInstantiator.createDelegatingConstructor(clazz), clazz.getName());
+			
+			// Same outcome as the proxy based instantiator
+			final RuntimeException expected = Assertions.assertThrows(
+				RuntimeException.class,
+				() -> defaultInstantiator.proxyWebElement(clazz, delegate));
+			final RuntimeException actual = Assertions.assertThrows(
+				RuntimeException.class,
+				() -> this.instantiator.proxyWebElement(clazz, delegate));
+			Assertions.assertEquals(expected.getClass(), actual.getClass());
+			Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	public abstract static class TestElement implements ImprovedWebElement
+	{
+	}
+	
+	
+	public static final class FinalElement extends RemoteWebElement
+	{
+	}
+	
+	
+	public abstract static class NoUsableConstructorElement implements ImprovedWebElement
+	{
+		protected NoUsableConstructorElement(final String name)
+		{
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import software.xdev.selenium.elements.Fakes;
+
+
+class ElementInstantiatorInstanceTest
+{
+	@AfterEach
+	void reset()
+	{
+		ElementInstantiatorInstance.setInstance(null);
+		ElementInstantiatorInstance.setThreadInstance(null);
+	}
+	
+	@Test
+	void defaultIsLoadedUsingServiceLoader()
+	{
+		Assertions.assertInstanceOf(DefaultElementInstantiator.class, ElementInstantiatorInstance.instance());
+	}
+	
+	@Test
+	void lookupOrder()
+	{
+		final WebDriver driver = Fakes.driver();
+		final ElementInstantiator global = new DefaultElementInstantiator();
+		final ElementInstantiator perDriver = new DefaultElementInstantiator();
+		final ElementInstantiator perThread = new DefaultElementInstantiator();
+		
+		ElementInstantiatorInstance.setInstance(global);
+		Assertions.assertSame(global, ElementInstantiatorInstance.instance(driver));
+		
+		ElementInstantiatorInstance.setDriverInstance(driver, perDriver);
+		Assertions.assertSame(perDriver, ElementInstantiatorInstance.instance(driver));
+		Assertions.assertSame(global, ElementInstantiatorInstance.instance());
+		
+		ElementInstantiatorInstance.setThreadInstance(perThread);
+		Assertions.assertSame(perThread, ElementInstantiatorInstance.instance(driver));
+		Assertions.assertSame(
+			perDriver,
+			CompletableFuture.supplyAsync(() -> ElementInstantiatorInstance.instance(driver)).join());
+		
+		ElementInstantiatorInstance.setDriverInstance(driver, null);
+	}
+}
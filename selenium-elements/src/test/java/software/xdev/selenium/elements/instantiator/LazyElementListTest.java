@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import software.xdev.selenium.elements.Fakes;
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.annotation.FindBySelector;
+
+
+class LazyElementListTest
+{
+	private final List<WebElement> webElements = List.of(Fakes.element(), Fakes.element(), Fakes.element());
+	private final List<WebElement> wrappedElements = new ArrayList<>();
+	
+	private WebElement wrap(final WebElement webElement)
+	{
+		this.wrappedElements.add(webElement);
+		return Fakes.element(
+			(methodName, args) -> "getWrappedElement".equals(methodName) ? webElement : null,
+			WrapsElement.class);
+	}
+	
+	@Test
+	void elementsAreWrappedOnFirstAccess()
+	{
+		final LazyElementList<WebElement> list = new LazyElementList<>(this.webElements, this::wrap);
+		
+		Assertions.assertEquals(3, list.size());
+		Assertions.assertInstanceOf(RandomAccess.class, list);
+		Assertions.assertEquals(List.of(), this.wrappedElements);
+		
+		final WebElement second = list.get(1);
+		Assertions.assertSame(this.webElements.get(1), ((WrapsElement)second).getWrappedElement());
+		Assertions.assertEquals(List.of(this.webElements.get(1)), this.wrappedElements);
+	}
+	
+	@Test
+	void elementsAreWrappedOnlyOnce()
+	{
+		final LazyElementList<WebElement> list = new LazyElementList<>(this.webElements, this::wrap);
+		
+		final WebElement first = list.get(0);
+		Assertions.assertSame(first, list.get(0));
+		Assertions.assertSame(first, list.stream().findFirst().orElseThrow());
+		Assertions.assertEquals(1, this.wrappedElements.size());
+		
+		final List<WebElement> all = list.stream().toList();
+		Assertions.assertEquals(all, List.copyOf(list));
+		Assertions.assertEquals(this.webElements, this.wrappedElements);
+	}
+	
+	@Test
+	void indexIsChecked()
+	{
+		final LazyElementList<WebElement> list = new LazyElementList<>(this.webElements, this::wrap);
+		
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+		Assertions.assertEquals(List.of(), this.wrappedElements);
+	}
+	
+	@Test
+	void isUnmodifiable()
+	{
+		final LazyElementList<WebElement> list = new LazyElementList<>(this.webElements, this::wrap);
+		
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(Fakes.element()));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+	}
+	
+	@Test
+	void findAllAndStreamOnlyCreateAccessedElements()
+	{
+		final List<WebElement> proxied = new ArrayList<>();
+		final DefaultElementInstantiator instantiator = new DefaultElementInstantiator()
+		{
+			@Override
+			public <T extends WebElement> T proxyWebElement(final Class<T> clazz, final WebElement webElement)
+			{
+				proxied.add(webElement);
+				return super.proxyWebElement(clazz, webElement);
+			}
+		};
+		
+		final List<TestElement> all = instantiator.findAll(by -> this.webElements, TestElement.class);
+		Assertions.assertInstanceOf(LazyElementList.class, all);
+		Assertions.assertEquals(3, all.size());
+		Assertions.assertEquals(List.of(), proxied);
+		Assertions.assertSame(this.webElements.get(2), all.get(2).getWrappedElement());
+		Assertions.assertEquals(List.of(this.webElements.get(2)), proxied);
+		
+		proxied.clear();
+		final Stream<TestElement> stream = instantiator.stream(by -> this.webElements, TestElement.class);
+		Assertions.assertSame(this.webElements.get(0), stream.findFirst().orElseThrow().getWrappedElement());
+		Assertions.assertEquals(List.of(this.webElements.get(0)), proxied);
+	}
+	
+	@FindBySelector(id = "test")
+	public abstract static class TestElement implements ImprovedWebElement
+	{
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import software.xdev.selenium.elements.Fakes;
+
+
+class ReResolvingElementInstantiatorTest
+{
+	private static WebElement element(final String text, final boolean stale)
+	{
+		return Fakes.element((methodName, args) -> {
+			if(stale)
+			{
+				throw new StaleElementReferenceException("stale");
+			}
+			return "getText".equals(methodName) ? text : null;
+		});
+	}
+	
+	@Test
+	void reResolvesOnceWhenStale()
+	{
+		final AtomicInteger searches = new AtomicInteger();
+		final TestElement element = new ReResolvingElementInstantiator().find(
+			by -> searches.incrementAndGet() == 1 ? element("old", true) : element("new", false),
+			TestElement.class);
+		
+		Assertions.assertEquals("new", element.getText());
+		Assertions.assertEquals("new", element.getText());
+		Assertions.assertEquals(2, searches.get());
+	}
+	
+	@Test
+	void staysStaleIfReResolvedElementIsStale()
+	{
+		final AtomicInteger searches = new AtomicInteger();
+		final TestElement element = new ReResolvingElementInstantiator().find(
+			by -> {
+				searches.incrementAndGet();
+				return element("x", true);
+			},
+			TestElement.class);
+		
+		Assertions.assertThrows(StaleElementReferenceException.class, element::getText);
+		Assertions.assertEquals(2, searches.get());
+	}
+	
+	public abstract static class TestElement implements WebElement
+	{
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.instantiator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import software.xdev.selenium.elements.Fakes;
+import software.xdev.selenium.elements.ImprovedWebElement;
+import software.xdev.selenium.elements.remote.ImprovedRemoteWebElement;
+
+
+class WrappedRemoteElementTest
+{
+	static Stream<ElementInstantiator> instantiators()
+	{
+		return Stream.of(new DefaultElementInstantiator(), new DelegatingElementInstantiator());
+	}
+	
+	@ParameterizedTest
+	@MethodSource("instantiators")
+	void resolvesRemoteElement(final ElementInstantiator instantiator)
+	{
+		final ImprovedRemoteWebElement remoteElement = new ImprovedRemoteWebElement("() => true");
+		
+		Assertions.assertSame(
+			remoteElement,
+			instantiator.proxyWebElement(TestElement.class, remoteElement).getWrappedRemoteElement());
+		
+		final WebElement decorated = Fakes.element(
+			(methodName, args) -> "getWrappedElement".equals(methodName) ? remoteElement : null,
+			WrapsElement.class);
+		Assertions.assertSame(
+			remoteElement,
+			instantiator.proxyWebElement(TestElement.class, decorated).getWrappedRemoteElement());
+	}
+	
+	@ParameterizedTest
+	@MethodSource("instantiators")
+	void fallbackForNonRemoteElement(final ElementInstantiator instantiator)
+	{
+		final AtomicInteger clicks = new AtomicInteger();
+		final WebElement plain = Fakes.element((methodName, args) -> {
+			if("click".equals(methodName))
+			{
+				clicks.incrementAndGet();
+			}
+			return null;
+		});
+		final TestElement element = instantiator.proxyWebElement(TestElement.class, plain);
+		
+		Assertions.assertNull(element.getWrappedRemoteElement());
+		element.nativeClick();
+		Assertions.assertEquals(1, clicks.get());
+		Assertions.assertThrows(UnsupportedOperationException.class, element::getWebDriver);
+	}
+	
+	public abstract static class TestElement implements ImprovedWebElement
+	{
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import software.xdev.selenium.elements.CanFindElements;
+import software.xdev.selenium.elements.Fakes;
+import software.xdev.selenium.elements.wait.PollingWaitStrategy;
+import software.xdev.selenium.elements.wait.WaitStrategy;
+
+
+class RecordingElementMetricsTest
+{
+	private static final long MS = 1_000_000L;
+	
+	@Test
+	void snapshotIsOrderedByTotalDuration()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics();
+		metrics.recordOperation("click", 10 * MS);
+		metrics.recordOperation("click", 30 * MS);
+		metrics.recordCommand("executeScript", 100 * MS);
+		metrics.recordWait("waitForServerLoadToFinish", 3, 5 * MS);
+		
+		final List<MetricSnapshot> snapshot = metrics.snapshot();
+		Assertions.assertEquals(
+			List.of("executeScript", "click", "waitForServerLoadToFinish"),
+			snapshot.stream().map(MetricSnapshot::name).toList());
+		
+		final MetricSnapshot click = snapshot.get(1);
+		Assertions.assertEquals(MetricSnapshot.Kind.OPERATION, click.kind());
+		Assertions.assertEquals(2, click.count());
+		Assertions.assertEquals(Duration.ofMillis(40), click.total());
+		Assertions.assertEquals(Duration.ofMillis(20), click.mean());
+		Assertions.assertEquals(Duration.ofMillis(30), click.max());
+		Assertions.assertEquals(Duration.ofMillis(32), click.p99());
+		
+		Assertions.assertEquals(3, snapshot.get(2).iterations());
+		
+		metrics.reset();
+		Assertions.assertTrue(metrics.snapshot().isEmpty());
+	}
+	
+	@Test
+	void namesAreBounded()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics(2);
+		metrics.recordCommand("a", MS);
+		metrics.recordCommand("b", MS);
+		metrics.recordCommand("c", MS);
+		metrics.recordCommand("d", MS);
+		
+		Assertions.assertEquals(
+			List.of("a", "b", RecordingElementMetrics.OTHER),
+			metrics.snapshot().stream().map(MetricSnapshot::name).sorted().toList());
+	}
+	
+	@Test
+	void meterExport()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics();
+		metrics.recordWait("waitUntil", 4, 2 * MS);
+		
+		final List<String> measurements = new ArrayList<>();
+		new MeterMetricsExporter((name, tags, statistic, value) ->
+			measurements.add(name + " " + tags.get("name") + " " + statistic + " " + value))
+			.export(metrics);
+		
+		Assertions.assertTrue(measurements.contains("selenium.elements.wait waitUntil COUNT 1.0"));
+		Assertions.assertTrue(measurements.contains("selenium.elements.wait waitUntil TOTAL_TIME 0.002"));
+		Assertions.assertTrue(measurements.contains("selenium.elements.wait.iterations waitUntil COUNT 4.0"));
+	}
+	
+	@Test
+	void waitIterationsAreRecorded()
+	{
+		final RecordingElementMetrics metrics = new RecordingElementMetrics();
+		final WebDriver driver = Fakes.driver();
+		final CanFindElements canFindElements = new CanFindElements()
+		{
+			@Override
+			public WebDriver getWebDriver()
+			{
+				return driver;
+			}
+			
+			@Override
+			public WaitStrategy waitStrategy()
+			{
+				return PollingWaitStrategy.DEFAULT.withPollInterval(Duration.ofMillis(1));
+			}
+			
+			@Override
+			public ElementMetrics elementMetrics()
+			{
+				return metrics;
+			}
+		};
+		
+		final AtomicInteger calls = new AtomicInteger();
+		canFindElements.waitUntil(wd -> calls.incrementAndGet() >= 3, Duration.ofSeconds(5), "locator");
+		
+		final MetricSnapshot wait = metrics.snapshot().get(0);
+		Assertions.assertEquals("waitUntil locator", wait.name());
+		Assertions.assertEquals(1, wait.count());
+		Assertions.assertEquals(3, wait.iterations());
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.tracing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+
+import software.xdev.selenium.elements.ByAnd;
+import software.xdev.selenium.elements.Fakes;
+
+
+class BufferingElementTracerTest
+{
+	@Test
+	void nestedSpans()
+	{
+		final BufferingElementTracer tracer = new BufferingElementTracer();
+		
+		tracer.trace("outer", outer -> {
+			outer.setAttribute("locator", By.id("a"));
+			try(ElementSpan inner = tracer.startSpan("inner"))
+			{
+				inner.setAttribute("poll.count", 3);
+			}
+			return null;
+		});
+		tracer.trace("next", span -> null);
+		
+		final List<SpanData> spans = tracer.spans();
+		Assertions.assertEquals(List.of("inner", "outer", "next"), spans.stream().map(SpanData::name).toList());
+		
+		final SpanData inner = spans.get(0);
+		final SpanData outer = spans.get(1);
+		Assertions.assertEquals(outer.spanId(), inner.parentSpanId());
+		Assertions.assertEquals(outer.traceId(), inner.traceId());
+		Assertions.assertNull(outer.parentSpanId());
+		Assertions.assertEquals(32, outer.traceId().length());
+		Assertions.assertEquals(16, outer.spanId().length());
+		Assertions.assertEquals(3L, inner.attributes().get("poll.count"));
+		Assertions.assertEquals("By.id: a", outer.attributes().get("locator"));
+		Assertions.assertTrue(outer.startEpochNanos() <= inner.startEpochNanos());
+		Assertions.assertTrue(outer.endEpochNanos() >= inner.endEpochNanos());
+		
+		// The previous root span is no longer active
+		Assertions.assertNull(spans.get(2).parentSpanId());
+		Assertions.assertNotEquals(outer.traceId(), spans.get(2).traceId());
+	}
+	
+	@Test
+	void exceptionsAreRecorded()
+	{
+		final BufferingElementTracer tracer = new BufferingElementTracer();
+		
+		Assertions.assertThrows(IllegalStateException.class, () -> tracer.trace("failing", span -> {
+			throw new IllegalStateException("boom");
+		}));
+		
+		final SpanData span = tracer.spans().get(0);
+		Assertions.assertTrue(span.failed());
+		Assertions.assertEquals(IllegalStateException.class.getName(), span.exceptionType());
+		Assertions.assertEquals("boom", span.exceptionMessage());
+	}
+	
+	@Test
+	void oldestSpansAreDroppedWhenFull()
+	{
+		final BufferingElementTracer tracer = new BufferingElementTracer(2);
+		for(int i = 0; i < 5; i++)
+		{
+			tracer.startSpan("span" + i).end();
+		}
+		
+		Assertions.assertEquals(List.of("span3", "span4"), tracer.spans().stream().map(SpanData::name).toList());
+		Assertions.assertEquals(3, tracer.dropped());
+	}
+	
+	@Test
+	void byAndSubQueries()
+	{
+		final BufferingElementTracer tracer = new BufferingElementTracer();
+		final WebElement element = Fakes.element();
+		final SearchContext context = Fakes.searchContext((methodName, args) -> List.of(element));
+		
+		ElementTracerInstance.setInstance(tracer);
+		try
+		{
+			Assertions.assertEquals(
+				List.of(element),
+				new ByAnd(By.xpath("//a"), By.xpath("//b")).findElements(context));
+		}
+		finally
+		{
+			ElementTracerInstance.setInstance(null);
+		}
+		
+		final List<SpanData> spans = tracer.spans();
+		Assertions.assertEquals(
+			List.of("ByAnd.subQuery", "ByAnd.subQuery", "ByAnd.findElements"),
+			spans.stream().map(SpanData::name).toList());
+		Assertions.assertEquals("By.xpath: //b", spans.get(1).attributes().get("locator"));
+		Assertions.assertEquals(spans.get(2).spanId(), spans.get(0).parentSpanId());
+		Assertions.assertEquals(1L, spans.get(2).attributes().get("element.count"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	void exportToOtlpJsonFile(@TempDir final Path dir) throws IOException
+	{
+		final BufferingElementTracer tracer = new BufferingElementTracer();
+		tracer.startSpan("span").setAttribute("element.class", String.class).end();
+		
+		final Path file = dir.resolve("spans.jsonl");
+		tracer.exportTo(file);
+		Assertions.assertTrue(tracer.spans().isEmpty());
+		
+		final List<String> lines = Files.readAllLines(file);
+		Assertions.assertEquals(1, lines.size());
+		
+		final Map<String, Object> request = new Json().toType(lines.get(0), Json.MAP_TYPE);
+		final Map<String, Object> resourceSpans = ((List<Map<String, Object>>)request.get("resourceSpans")).get(0);
+		final Map<String, Object> scopeSpans = ((List<Map<String, Object>>)resourceSpans.get("scopeSpans")).get(0);
+		final Map<String, Object> span = ((List<Map<String, Object>>)scopeSpans.get("spans")).get(0);
+		
+		Assertions.assertEquals("span", span.get("name"));
+		Assertions.assertInstanceOf(String.class, span.get("startTimeUnixNano"));
+		Assertions.assertEquals(
+			List.of(Map.of("key", "element.class", "value", Map.of("stringValue", "java.lang.String"))),
+			span.get("attributes"));
+	}
+}
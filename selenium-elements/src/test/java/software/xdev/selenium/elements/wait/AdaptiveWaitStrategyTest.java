@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+
+class AdaptiveWaitStrategyTest
+{
+	private final List<Duration> sleeps = new ArrayList<>();
+	private final PollingWaitStrategyTest.FakeClock clock = new PollingWaitStrategyTest.FakeClock();
+	
+	private final AdaptiveWaitStrategy strategy = new AdaptiveWaitStrategy(
+		PollingWaitStrategy.DEFAULT.withClockAndSleeper(
+			this.clock,
+			duration -> {
+				this.sleeps.add(duration);
+				this.clock.now = this.clock.now.plus(duration);
+			}),
+		Duration.ofMillis(10),
+		Duration.ofMillis(500),
+		AdaptiveWaitStrategy.DEFAULT_MIN_SAMPLES,
+		AdaptiveWaitStrategy.DEFAULT_MAX_LOCATORS,
+		0.9);
+	
+	private void waitUntilElapsed(final By locator, final Duration latency)
+	{
+		final Instant start = this.clock.now;
+		this.strategy.until(
+			null,
+			Duration.ofSeconds(10),
+			wd -> !this.clock.now.isBefore(start.plus(latency)),
+			locator);
+	}
+	
+	@Test
+	void withoutDataIntervalGrowsExponentially()
+	{
+		this.waitUntilElapsed(By.id("a"), Duration.ofMillis(200));
+		
+		Assertions.assertEquals(
+			List.of(10L, 10L, 10L, 15L, 22L, 33L, 50L, 75L),
+			this.sleeps.stream().map(Duration::toMillis).toList());
+	}
+	
+	@Test
+	void pollsFrequentlyWithinUsualLatency()
+	{
+		final By locator = By.id("a");
+		for(int i = 0; i < AdaptiveWaitStrategy.DEFAULT_MIN_SAMPLES; i++)
+		{
+			this.waitUntilElapsed(locator, Duration.ofMillis(100));
+		}
+		Assertions.assertEquals(AdaptiveWaitStrategy.DEFAULT_MIN_SAMPLES, this.strategy.latencies(locator).count());
+		
+		this.sleeps.clear();
+		this.waitUntilElapsed(locator, Duration.ofMillis(100));
+		
+		// Median/p90 bucket is 128ms -> poll every 32ms
+		Assertions.assertEquals(
+			List.of(32L, 32L, 32L, 32L),
+			this.sleeps.stream().map(Duration::toMillis).toList());
+	}
+}
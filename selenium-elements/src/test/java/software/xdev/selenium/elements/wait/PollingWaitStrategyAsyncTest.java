@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import software.xdev.selenium.elements.Fakes;
+
+
+class PollingWaitStrategyAsyncTest
+{
+	private static final PollingWaitStrategy STRATEGY = PollingWaitStrategy.DEFAULT
+		.withPollInterval(Duration.ofMillis(5));
+	
+	private final WebDriver driver = Fakes.driver();
+	// A single thread shows that no thread is blocked between the attempts of concurrent waits
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	
+	@AfterEach
+	void shutdown()
+	{
+		this.executor.shutdownNow();
+	}
+	
+	@Test
+	void concurrentWaitsShareOneThread() throws Exception
+	{
+		final AtomicInteger attemptsA = new AtomicInteger();
+		final AtomicInteger attemptsB = new AtomicInteger();
+		
+		final CompletableFuture<String> a = STRATEGY.untilAsync(
+			this.driver,
+			Duration.ofSeconds(5),
+			wd -> attemptsA.incrementAndGet() >= 3 ? "a" : null,
+			null,
+			this.executor);
+		final CompletableFuture<String> b = STRATEGY.untilAsync(
+			this.driver,
+			Duration.ofSeconds(5),
+			wd -> {
+				if(attemptsB.incrementAndGet() < 4)
+				{
+					throw new NoSuchElementException("not yet");
+				}
+				return "b";
+			},
+			null,
+			this.executor);
+		
+		Assertions.assertEquals("a", a.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals("b", b.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(3, attemptsA.get());
+		Assertions.assertEquals(4, attemptsB.get());
+	}
+	
+	@Test
+	void timeout()
+	{
+		final CompletableFuture<Boolean> future = STRATEGY.untilAsync(
+			this.driver,
+			Duration.ofMillis(30),
+			wd -> false,
+			null,
+			this.executor);
+		
+		final ExecutionException ex = Assertions.assertThrows(
+			ExecutionException.class,
+			() -> future.get(5, TimeUnit.SECONDS));
+		Assertions.assertInstanceOf(TimeoutException.class, ex.getCause());
+	}
+	
+	@Test
+	void notIgnoredExceptionCompletesExceptionally()
+	{
+		final CompletableFuture<Object> future = STRATEGY.untilAsync(
+			this.driver,
+			Duration.ofSeconds(5),
+			wd -> {
+				throw new IllegalStateException();
+			},
+			null,
+			this.executor);
+		
+		final ExecutionException ex = Assertions.assertThrows(
+			ExecutionException.class,
+			() -> future.get(5, TimeUnit.SECONDS));
+		Assertions.assertInstanceOf(IllegalStateException.class, ex.getCause());
+	}
+	
+	@Test
+	void cancelStopsPolling() throws InterruptedException
+	{
+		final AtomicInteger attempts = new AtomicInteger();
+		final CompletableFuture<Boolean> future = STRATEGY.untilAsync(
+			this.driver,
+			Duration.ofSeconds(5),
+			wd -> attempts.incrementAndGet() < 0,
+			null,
+			this.executor);
+		
+		Thread.sleep(30);
+		future.cancel(false);
+		final int attemptsAfterCancel = attempts.get();
+		Thread.sleep(50);
+		
+		// At most one attempt might have been in progress
+		Assertions.assertTrue(attempts.get() <= attemptsAfterCancel + 1);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2025 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.selenium.elements.wait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import software.xdev.selenium.elements.Fakes;
+
+
+class PollingWaitStrategyTest
+{
+	private final List<Duration> sleeps = new ArrayList<>();
+	private final FakeClock clock = new FakeClock();
+	
+	private PollingWaitStrategy strategy()
+	{
+		return PollingWaitStrategy.DEFAULT.withClockAndSleeper(
+			this.clock,
+			duration -> {
+				this.sleeps.add(duration);
+				this.clock.now = this.clock.now.plus(duration);
+			});
+	}
+	
+	@Test
+	void returnsFirstValidValueAndIgnoresNotFound()
+	{
+		final AtomicInteger attempts = new AtomicInteger();
+		final String result = this.strategy().until(
+			null,
+			Duration.ofSeconds(10),
+			wd -> {
+				if(attempts.incrementAndGet() < 3)
+				{
+					throw new NoSuchElementException("not yet");
+				}
+				return "ok";
+			});
+		
+		Assertions.assertEquals("ok", result);
+		Assertions.assertEquals(List.of(Duration.ofMillis(500), Duration.ofMillis(500)), this.sleeps);
+	}
+	
+	@Test
+	void backoff()
+	{
+		final AtomicInteger attempts = new AtomicInteger();
+		this.strategy()
+			.withBackoff(Duration.ofMillis(10), Duration.ofMillis(50), 2)
+			.until(null, Duration.ofSeconds(10), wd -> attempts.incrementAndGet() > 5);
+		
+		Assertions.assertEquals(
+			List.of(10L, 20L, 40L, 50L, 50L),
+			this.sleeps.stream().map(Duration::toMillis).toList());
+	}
+	
+	@Test
+	void notIgnoredExceptionIsPropagated()
+	{
+		final PollingWaitStrategy strategy = this.strategy();
+		Assertions.assertThrows(
+			StaleElementReferenceException.class,
+			() -> strategy.until(null, Duration.ofSeconds(1), wd -> {
+				throw new StaleElementReferenceException("stale");
+			}));
+	}
+	
+	@Test
+	void timeout()
+	{
+		final PollingWaitStrategy strategy = this.strategy();
+		final WebDriver driver = Fakes.driver();
+		Assertions.assertThrows(
+			TimeoutException.class,
+			() -> strategy.until(driver, Duration.ofSeconds(1), wd -> false));
+		Assertions.assertEquals(3, this.sleeps.size());
+	}
+	
+	static class FakeClock extends Clock
+	{
+		Instant now = Instant.EPOCH;
+		
+		@Override
+		public ZoneId getZone()
+		{
+			return ZoneId.systemDefault();
+		}
+		
+		@Override
+		public Clock withZone(final ZoneId zone)
+		{
+			return this;
+		}
+		
+		@Override
+		public Instant instant()
+		{
+			return this.now;
+		}
+	}
+}